@@ -3,8 +3,10 @@ package pl.lotto.cache.redis;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -14,10 +16,18 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import pl.lotto.BaseIntegrationTest;
+import pl.lotto.domain.numbergenerator.WinningNumbersGeneratorFacade;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverResponseDto;
 import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.domain.resultchecker.ResultCheckerFacade;
 import pl.lotto.infrastructure.loginandregister.controller.dto.JwtResponseDto;
+import pl.lotto.infrastructure.resultannouncer.cache.ResultsReadModelPublisher;
+import pl.lotto.infrastructure.resultchecker.scheduler.ResultCheckerScheduler;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -34,9 +44,24 @@ public class RedisResultsCacheIntegrationTest extends BaseIntegrationTest {
     @SpyBean
     ResultAnnouncerFacade resultAnnouncerFacade;
 
+    @MockBean
+    ResultCheckerScheduler resultCheckerScheduler;
+
     @Autowired
     CacheManager cacheManager;
 
+    @Autowired
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    WinningNumbersGeneratorFacade winningNumbersGeneratorFacade;
+
+    @Autowired
+    ResultCheckerFacade resultCheckerFacade;
+
+    @Autowired
+    ResultsReadModelPublisher resultsReadModelPublisher;
+
     static {
         REDIS = new GenericContainer<>("redis").withExposedPorts(6379);
         REDIS.start();
@@ -45,16 +70,30 @@ public class RedisResultsCacheIntegrationTest extends BaseIntegrationTest {
     @DynamicPropertySource
     public static void propertyOverride(DynamicPropertyRegistry registry) {
         registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
-        registry.add("spring.data.redis.port", () -> REDIS.getFirstMappedPort().toString());
+        registry.add("lotto.number-generator.http.client.config.port", () -> wireMockServer.getPort());
+        registry.add("lotto.number-generator.http.client.config.uri", () -> WIRE_MOCK_HOST);
+        registry.add("spring.redis.host", REDIS::getHost);
+        registry.add("spring.redis.port", () -> REDIS.getFirstMappedPort().toString());
         registry.add("spring.cache.type", () -> "redis");
-        registry.add("spring.cache.redis.time-to-live", () -> "PT1S");
     }
 
     @Test
-    public void should_save_result_to_cache_and_then_invalidate_by_time_to_live() throws Exception {
-        // step 1: someUser was registered with somePassword
-        // given & when
-        ResultActions registerAction = mockMvc.perform(post("/register")
+    public void should_cache_wait_answer_until_announcement_and_serve_published_results_only_after_it() throws Exception {
+        // step 1: external service returns winning numbers and the draw of 14.03.2026 12:00 gets them
+        wireMockServer.stubFor(WireMock.get("/api/v1.0/random?min=1&max=99&count=25")
+                .willReturn(WireMock.aResponse()
+                        .withStatus(HttpStatus.OK.value())
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[1, 2, 3, 4, 5, 6, 82, 82, 83, 83, 86, 57, 10, 81, 53, 93, 50, 54, 31, 88, 15, 43, 79, 32, 43]")
+                ));
+        LocalDateTime drawDate = LocalDateTime.of(2026, 3, 14, 12, 0, 0);
+        await()
+                .atMost(Duration.ofSeconds(20))
+                .pollInterval(Duration.ofSeconds(1))
+                .until(() -> winningNumbersGeneratorFacade.areWinningNumbersGeneratedByDate());
+
+        // step 2: someUser was registered with somePassword and logged in
+        mockMvc.perform(post("/register")
                 .content("""
                         {
                         "username": "someUser",
@@ -62,13 +101,8 @@ public class RedisResultsCacheIntegrationTest extends BaseIntegrationTest {
                         }
                         """.trim())
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
-        );
-        // then
-        registerAction.andExpect(status().isCreated());
-
-        // step 2: login
-        // given && when
-        ResultActions successLoginRequest = mockMvc.perform(post("/token")
+        ).andExpect(status().isCreated());
+        MvcResult loginResult = mockMvc.perform(post("/token")
                 .content("""
                         {
                         "username": "someUser",
@@ -76,52 +110,61 @@ public class RedisResultsCacheIntegrationTest extends BaseIntegrationTest {
                         }
                         """.trim())
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
-        );
-        // then
-        MvcResult mvcResult = successLoginRequest.andExpect(status().isOk()).andReturn();
-        String json = mvcResult.getResponse().getContentAsString();
-        JwtResponseDto jwtResponse = objectMapper.readValue(json, JwtResponseDto.class);
-        String jwtToken = jwtResponse.token();
-
-        //step 3: should save to cache result request
-        //given
-        wireMockServer.stubFor(WireMock.get("/results/id")
-                .willReturn(WireMock.aResponse()
-                        .withStatus(HttpStatus.OK.value())
-                        .withHeader("Content-Type", "application/json")
-                        .withBody("""
-                                {
-                                    "responseDto": {
-                                        "hash": "id",
-                                        "numbers": [1,2,3,4,5,6],
-                                        "wonNumbers": [1,2,3],
-                                        "drawDate": "2026-02-09T12:00:00",
-                                        "isWinner": true
-                                    },
-                                    "message": "You won, congratulations!"
-                                }
-                                """.trim()
-                        )));
-        //when
-        mockMvc.perform(get("/results/id")
+        ).andExpect(status().isOk()).andReturn();
+        String jwtToken = objectMapper.readValue(loginResult.getResponse().getContentAsString(), JwtResponseDto.class).token();
+
+        // step 3: user played 1, 2, 3, 4, 5, 6
+        MvcResult ticketResult = mockMvc.perform(post("/inputNumbers")
                 .header("Authorization", "Bearer " + jwtToken)
-                .contentType(MediaType.APPLICATION_JSON_VALUE));
+                .content("{\"inputNumbers\": [1,2,3,4,5,6]}")
+                .contentType(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isOk()).andReturn();
+        String ticketId = objectMapper.readValue(ticketResult.getResponse().getContentAsString(), NumberReceiverResponseDto.class)
+                .ticketDto().hash();
+
+        // step 4: on Sat 14.03 10:55 the draw is evaluated and its final answers staged in the read model
+        clock.plusDaysAndMinutes(3, 55);
+        resultCheckerFacade.generateResultsSummary(resultsReadModelPublisher::publish);
+
+        // step 5: before the draw the ticket is answered with WAIT, cached in Redis only until the announcement
+        //when
+        ResultAnnouncerResponseDto firstAnswer = getResult(ticketId, jwtToken);
+        ResultAnnouncerResponseDto secondAnswer = getResult(ticketId, jwtToken);
         //then
-        verify(resultAnnouncerFacade, times(1)).checkResult("id");
+        assertThat(firstAnswer.message()).isEqualTo("Results are being calculated, please come back later");
+        assertThat(secondAnswer).isEqualTo(firstAnswer);
+        verify(resultAnnouncerFacade, times(1)).checkResult(ticketId);
         assertThat(cacheManager.getCacheNames().contains("results")).isTrue();
+        assertThat(redisTemplate.hasKey("results::" + ticketId)).isTrue();
+        assertThat(redisTemplate.hasKey("resultsReadModel::" + ticketId)).isTrue();
+        assertThat(redisTemplate.getExpire("results::" + ticketId, TimeUnit.SECONDS))
+                .isLessThanOrEqualTo(Duration.ofMinutes(75).toSeconds());
 
-        //step 4: cache should be invalidated
-        //given && when
-        await()
-                .atMost(Duration.ofSeconds(4))
-                .pollInterval(Duration.ofSeconds(1))
-                .untilAsserted(() -> {
-                            mockMvc.perform(get("/results/id")
-                                    .header("Authorization", "Bearer " + jwtToken)
-                                    .contentType(MediaType.APPLICATION_JSON_VALUE)
-                            );
-                            verify(resultAnnouncerFacade, atLeast(2)).checkResult("id");
-                        }
-                );
+        // step 6: after the draw, until it is announced, the staged answer stays out of sight
+        //given
+        clock.advanceInTimeBy(Duration.ofMinutes(66));
+        //when
+        ResultAnnouncerResponseDto beforeAnnouncement = getResult(ticketId, jwtToken);
+        //then
+        assertThat(beforeAnnouncement.message()).isEqualTo("Results are being calculated, please come back later");
+
+        // step 7: once announced, the WAIT answer is evicted and the staged answer is served straight from the cache
+        //given
+        resultsReadModelPublisher.announce(drawDate);
+        //when
+        ResultAnnouncerResponseDto afterAnnouncement = getResult(ticketId, jwtToken);
+        //then
+        assertThat(afterAnnouncement.message()).isEqualTo("Congratulations, you won!");
+        assertThat(afterAnnouncement.responseDto().hash()).isEqualTo(ticketId);
+        assertThat(redisTemplate.hasKey("resultsReadModel::" + ticketId)).isFalse();
+        verify(resultAnnouncerFacade, times(1)).checkResult(ticketId);
+    }
+
+    private ResultAnnouncerResponseDto getResult(String ticketId, String jwtToken) throws Exception {
+        ResultActions resultAction = mockMvc.perform(get("/results/" + ticketId)
+                .header("Authorization", "Bearer " + jwtToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE));
+        MvcResult mvcResult = resultAction.andExpect(status().isOk()).andReturn();
+        return objectMapper.readValue(mvcResult.getResponse().getContentAsString(), ResultAnnouncerResponseDto.class);
     }
 }
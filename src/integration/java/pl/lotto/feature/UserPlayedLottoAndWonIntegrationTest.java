@@ -145,8 +145,9 @@ public class UserPlayedLottoAndWonIntegrationTest extends BaseIntegrationTest {
                         }
                 );
 
-        // step 11: move clock to 12:01 (after the draw)
-        clock.plusMinutes(66); // 10:55 + 66 min = 12:01
+        // step 11: move clock to 12:01 (after the draw, within the publication timeout, so only the announcement
+        // made by the result checker lets the final result through)
+        clock.advanceInTimeBy(Duration.ofMinutes(66)); // 10:55 + 66 min = 12:01
 
         // step 12: get results
         ResultActions performGetMethod = mockMvc.perform(get("/results/" + ticketId)
@@ -6,14 +6,34 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import pl.lotto.domain.numbergenerator.WinningNumbersGeneratorFacadeConfigurationProperties;
+import pl.lotto.domain.numberreceiver.IssuedTicketFilterConfigurationProperties;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacadeConfigurationProperties;
+import pl.lotto.domain.numberreceiver.TicketIdempotencyConfigurationProperties;
+import pl.lotto.domain.numberreceiver.TicketLookupCacheConfigurationProperties;
+import pl.lotto.domain.numberreceiver.TicketWriteBehindConfigurationProperties;
+import pl.lotto.domain.resultannouncer.ResultAnnouncerFacadeConfigurationProperties;
+import pl.lotto.domain.resultchecker.ResultCheckerFacadeConfigurationProperties;
+import pl.lotto.infrastructure.cache.RedisClientConfigurationProperties;
+import pl.lotto.infrastructure.cache.TwoTierCacheConfigurationProperties;
+import pl.lotto.infrastructure.mongo.MongoBulkWriteConfigurationProperties;
+import pl.lotto.infrastructure.mongo.MongoIndexConfigurationProperties;
+import pl.lotto.infrastructure.mongo.MongoPartitioningConfigurationProperties;
 import pl.lotto.infrastructure.numbergenerator.http.RandomNumberGeneratorRestTemplateConfigurationProperties;
+import pl.lotto.infrastructure.numberreceiver.controller.InputNumbersStreamConfigurationProperties;
 import pl.lotto.infrastructure.security.jwt.JwtConfigurationProperties;
 
 import java.util.TimeZone;
 
 @SpringBootApplication
 @EnableConfigurationProperties({WinningNumbersGeneratorFacadeConfigurationProperties.class,
-        RandomNumberGeneratorRestTemplateConfigurationProperties.class, JwtConfigurationProperties.class})
+        RandomNumberGeneratorRestTemplateConfigurationProperties.class, JwtConfigurationProperties.class,
+        ResultCheckerFacadeConfigurationProperties.class, MongoBulkWriteConfigurationProperties.class,
+        MongoIndexConfigurationProperties.class, MongoPartitioningConfigurationProperties.class,
+        TicketWriteBehindConfigurationProperties.class, NumberReceiverFacadeConfigurationProperties.class,
+        InputNumbersStreamConfigurationProperties.class, TicketIdempotencyConfigurationProperties.class,
+        TicketLookupCacheConfigurationProperties.class, TwoTierCacheConfigurationProperties.class,
+        ResultAnnouncerFacadeConfigurationProperties.class, RedisClientConfigurationProperties.class,
+        IssuedTicketFilterConfigurationProperties.class})
 @EnableScheduling
 @EnableMongoRepositories
 public class LottoSpringBootApplication {
@@ -0,0 +1,23 @@
+package pl.lotto.domain.common;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.List;
+
+@Builder
+public record BulkWriteBatchReport(
+        int batchIndex,
+        int size,
+        long inserted,
+        long failed,
+        Duration latency,
+        List<Object> retryable) {
+
+    /**
+     * Documents that failed for another reason than a duplicate key, i.e. are still missing from the collection.
+     */
+    public List<Object> retryable() {
+        return retryable == null ? List.of() : retryable;
+    }
+}
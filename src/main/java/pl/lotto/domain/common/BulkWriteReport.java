@@ -0,0 +1,30 @@
+package pl.lotto.domain.common;
+
+import java.util.List;
+
+public record BulkWriteReport(List<BulkWriteBatchReport> batches) {
+
+    public static final BulkWriteReport EMPTY = new BulkWriteReport(List.of());
+
+    public long inserted() {
+        return batches.stream().mapToLong(BulkWriteBatchReport::inserted).sum();
+    }
+
+    public long failed() {
+        return batches.stream().mapToLong(BulkWriteBatchReport::failed).sum();
+    }
+
+    public boolean hasFailures() {
+        return failed() > 0;
+    }
+
+    public List<Object> retryable() {
+        return batches.stream()
+                .flatMap(batch -> batch.retryable().stream())
+                .toList();
+    }
+
+    public boolean hasRetryableFailures() {
+        return batches.stream().anyMatch(batch -> !batch.retryable().isEmpty());
+    }
+}
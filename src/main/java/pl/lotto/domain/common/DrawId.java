@@ -0,0 +1,20 @@
+package pl.lotto.domain.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact identifier of a draw: minutes between the epoch and the draw date-time.
+ */
+public class DrawId {
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    public static int of(LocalDateTime drawDate) {
+        return Math.toIntExact(drawDate.toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_MINUTE);
+    }
+
+    public static LocalDateTime toDrawDate(int drawId) {
+        return LocalDateTime.ofEpochSecond(drawId * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,28 @@
+package pl.lotto.domain.common;
+
+import java.util.Optional;
+
+/**
+ * Result id of a ticket that takes part in many draws: the ticket hash suffixed with the draw id.
+ * Single-draw tickets keep their plain hash as result id.
+ */
+public record DrawTicketId(String hash, int drawId) {
+
+    private static final char SEPARATOR = '_';
+
+    public static String of(String hash, int drawId) {
+        return hash + SEPARATOR + drawId;
+    }
+
+    public static Optional<DrawTicketId> parse(String id) {
+        int separator = id.lastIndexOf(SEPARATOR);
+        if (separator <= 0 || separator == id.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new DrawTicketId(id.substring(0, separator), Integer.parseInt(id.substring(separator + 1))));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package pl.lotto.domain.common;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 128-bit set of lotto numbers in range 0..127 kept in two longs.
+ * Bit n of {@code low} is number n, bit n of {@code high} is number n + 64.
+ */
+public record NumbersMask(long low, long high) {
+
+    public static final NumbersMask EMPTY = new NumbersMask(0L, 0L);
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int MAX_NUMBER = 2 * BITS_PER_WORD - 1;
+
+    public static NumbersMask of(Set<Integer> numbers) {
+        long low = 0L;
+        long high = 0L;
+        for (int number : numbers) {
+            if (number < 0 || number > MAX_NUMBER) {
+                throw new IllegalArgumentException("Number out of mask range: " + number);
+            }
+            if (number < BITS_PER_WORD) {
+                low |= 1L << number;
+            } else {
+                high |= 1L << (number - BITS_PER_WORD);
+            }
+        }
+        return new NumbersMask(low, high);
+    }
+
+    public static NumbersMask ofNullable(Set<Integer> numbers) {
+        return numbers == null ? EMPTY : of(numbers);
+    }
+
+    public NumbersMask and(NumbersMask other) {
+        return new NumbersMask(low & other.low, high & other.high);
+    }
+
+    public int count() {
+        return Long.bitCount(low) + Long.bitCount(high);
+    }
+
+    public Set<Integer> toSet() {
+        Set<Integer> numbers = new HashSet<>(count() * 2);
+        addNumbers(numbers, low, 0);
+        addNumbers(numbers, high, BITS_PER_WORD);
+        return numbers;
+    }
+
+    private static void addNumbers(Set<Integer> numbers, long word, int offset) {
+        while (word != 0L) {
+            int bit = Long.numberOfTrailingZeros(word);
+            numbers.add(bit + offset);
+            word &= word - 1;
+        }
+    }
+}
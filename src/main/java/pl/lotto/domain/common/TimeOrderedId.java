@@ -0,0 +1,50 @@
+package pl.lotto.domain.common;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 128-bit id rendered as 26 Crockford base32 characters, most significant bits first.
+ * The top 48 bits hold the epoch millis the id was created at.
+ */
+public class TimeOrderedId {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 26;
+    private static final int TIMESTAMP_CHARS = 10;
+    private static final int BITS_PER_CHAR = 5;
+    private static final int[] DECODE = new int[128];
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = i;
+        }
+    }
+
+    public static String encode(long high, long low) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (low & 0x1F)];
+            low = (low >>> BITS_PER_CHAR) | (high << (Long.SIZE - BITS_PER_CHAR));
+            high >>>= BITS_PER_CHAR;
+        }
+        return new String(chars);
+    }
+
+    public static OptionalLong timestampMillis(String id) {
+        if (id == null || id.length() != ENCODED_LENGTH) {
+            return OptionalLong.empty();
+        }
+        long millis = 0;
+        for (int i = 0; i < TIMESTAMP_CHARS; i++) {
+            char c = id.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            if (value < 0) {
+                return OptionalLong.empty();
+            }
+            millis = (millis << BITS_PER_CHAR) | value;
+        }
+        return OptionalLong.of(millis);
+    }
+}
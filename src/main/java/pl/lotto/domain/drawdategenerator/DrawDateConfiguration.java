@@ -2,7 +2,6 @@ package pl.lotto.domain.drawdategenerator;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
 
 import java.time.Clock;
 
@@ -10,17 +9,7 @@ import java.time.Clock;
 public class DrawDateConfiguration {
 
     @Bean
-    public DrawDateFacade drawDateFacade() {
-        return new DrawDateFacade(drawDateGenerator());
-    }
-    @Bean
-    DrawDateGenerator drawDateGenerator() {
-        return new DrawDateGenerator(clock());
-    }
-
-    @Bean
-    @Primary
-    Clock clock() {
-        return Clock.systemUTC();
+    public DrawDateFacade drawDateFacade(Clock clock) {
+        return new DrawDateFacade(new DrawDateGenerator(clock), clock);
     }
 }
@@ -1,15 +1,46 @@
 package pl.lotto.domain.drawdategenerator;
 
-import lombok.AllArgsConstructor;
-
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
-@AllArgsConstructor
 public class DrawDateFacade {
 
     private final DrawDateGenerable drawDateGenerator;
+    private final Clock clock;
+    private volatile DrawWindow currentDraw;
+
+    public DrawDateFacade(DrawDateGenerable drawDateGenerator, Clock clock) {
+        this.drawDateGenerator = drawDateGenerator;
+        this.clock = clock;
+        this.currentDraw = openDraw();
+    }
 
     public LocalDateTime getNextDrawDate() {
-        return drawDateGenerator.getNextDrawDate();
+        return currentDraw().drawDate();
+    }
+
+    public Instant getNextDrawCutoff() {
+        return Instant.ofEpochMilli(currentDraw().cutoffMillis());
+    }
+
+    public LocalDateTime rollOver() {
+        DrawWindow draw = openDraw();
+        currentDraw = draw;
+        return draw.drawDate();
+    }
+
+    private DrawWindow currentDraw() {
+        DrawWindow draw = currentDraw;
+        if (draw.isOpenAt(clock.millis())) {
+            return draw;
+        }
+        draw = openDraw();
+        currentDraw = draw;
+        return draw;
+    }
+
+    private DrawWindow openDraw() {
+        return DrawWindow.of(drawDateGenerator.getNextDrawDate(), clock.getZone());
     }
 }
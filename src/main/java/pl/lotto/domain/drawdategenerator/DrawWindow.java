@@ -0,0 +1,17 @@
+package pl.lotto.domain.drawdategenerator;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+record DrawWindow(LocalDateTime drawDate, long opensAtMillis, long cutoffMillis) {
+
+    static DrawWindow of(LocalDateTime drawDate, ZoneId zone) {
+        long opensAtMillis = drawDate.minusWeeks(1).atZone(zone).toInstant().toEpochMilli();
+        long cutoffMillis = drawDate.atZone(zone).toInstant().toEpochMilli();
+        return new DrawWindow(drawDate, opensAtMillis, cutoffMillis);
+    }
+
+    boolean isOpenAt(long epochMillis) {
+        return epochMillis >= opensAtMillis && epochMillis < cutoffMillis;
+    }
+}
@@ -5,6 +5,7 @@ import pl.lotto.domain.numbergenerator.dto.WinningNumbersDto;
 import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.Set;
 
 @AllArgsConstructor
@@ -19,6 +20,13 @@ public class WinningNumbersGeneratorFacade {
 
     public WinningNumbersDto generateWinningNumbers() {
         LocalDateTime nextDrawDate = numberReceiverFacade.retrieveNextDrawDate();
+        Optional<WinningNumbers> alreadyGenerated = winningNumbersRepository.findNumbersByDate(nextDrawDate);
+        if (alreadyGenerated.isPresent()) {
+            return WinningNumbersDto.builder()
+                    .winningNumbers(alreadyGenerated.get().winningNumbers())
+                    .date(alreadyGenerated.get().date())
+                    .build();
+        }
         SixRandomNumbersDto sixRandomNumbersDto = randomGenerable.generateSixRandomNumbers(
                 properties.count(), properties.lowerBand(), properties.upperBand());
         Set<Integer> winningNumbers = sixRandomNumbersDto.numbers();
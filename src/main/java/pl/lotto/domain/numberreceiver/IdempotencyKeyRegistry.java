@@ -0,0 +1,64 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.extern.log4j.Log4j2;
+import pl.lotto.domain.common.BloomFilter;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Per-draw Bloom filters of the idempotency keys tickets were accepted with. A miss proves the key is new,
+ * so only probable repeats pay for the exact lookup. A draw's filter is seeded from its stored tickets on
+ * first use and filters of earlier draws are dropped once a later draw opens.
+ */
+@Log4j2
+class IdempotencyKeyRegistry {
+
+    private final TicketRepository ticketRepository;
+    private final long expectedTicketsPerDraw;
+    private final double falsePositiveProbability;
+    private final Map<Integer, BloomFilter> filtersByDraw = new ConcurrentHashMap<>();
+
+    IdempotencyKeyRegistry(TicketRepository ticketRepository, long expectedTicketsPerDraw, double falsePositiveProbability) {
+        this.ticketRepository = ticketRepository;
+        this.expectedTicketsPerDraw = expectedTicketsPerDraw;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    boolean mightHaveSeen(int drawId, String idempotencyKey) {
+        return filterFor(drawId).mightContain(idempotencyKey);
+    }
+
+    void record(int drawId, String idempotencyKey) {
+        filterFor(drawId).put(idempotencyKey);
+    }
+
+    private BloomFilter filterFor(int drawId) {
+        BloomFilter filter = filtersByDraw.get(drawId);
+        if (filter != null) {
+            return filter;
+        }
+        filter = filtersByDraw.computeIfAbsent(drawId, this::seed);
+        filtersByDraw.keySet().removeIf(openedDrawId -> openedDrawId < drawId);
+        return filter;
+    }
+
+    private BloomFilter seed(int drawId) {
+        BloomFilter filter = BloomFilter.create(expectedTicketsPerDraw, falsePositiveProbability);
+        long seeded = 0;
+        try (Stream<Ticket> tickets = ticketRepository.streamAllByDrawId(drawId)) {
+            Iterator<Ticket> iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                String idempotencyKey = iterator.next().idempotencyKey();
+                if (idempotencyKey != null) {
+                    filter.put(idempotencyKey);
+                    seeded++;
+                }
+            }
+        }
+        log.info("Idempotency filter for draw {} seeded with {} keys", drawId, seeded);
+        return filter;
+    }
+}
@@ -0,0 +1,13 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.number-receiver.issued-tickets")
+@Builder
+public record IssuedTicketFilterConfigurationProperties(
+        long expectedTicketsPerDraw,
+        double falsePositiveProbability,
+        int retainedDraws,
+        long commitGraceSeconds) {
+}
@@ -0,0 +1,146 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.extern.log4j.Log4j2;
+import pl.lotto.domain.common.BloomFilter;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.TimeOrderedId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Per-draw Bloom filters of the ticket hashes issued for the retained draws, used to answer lookups of unknown
+ * tickets without touching any cache or collection. Other instances issue tickets this one never records, so a
+ * filter miss only proves a hash was never issued when the hash is time ordered and was created for a retained
+ * draw before that draw's filter was seeded from the repository (less {@code commitGrace} for write-behind).
+ * Anything else, including every hash until {@link #rebuild} has run, is reported as possibly issued. A draw's
+ * filter is seeded on first use from its stored tickets and the subscriptions covering it, and seeded again
+ * once the draw closes, when the tickets of every instance are stored.
+ */
+@Log4j2
+class IssuedTicketRegistry {
+
+    private final TicketRepository ticketRepository;
+    private final Clock clock;
+    private final long expectedTicketsPerDraw;
+    private final double falsePositiveProbability;
+    private final int retainedDraws;
+    private final Duration commitGrace;
+    private final Map<Integer, DrawFilter> filtersByDraw = new ConcurrentHashMap<>();
+    private volatile boolean rebuilt;
+
+    IssuedTicketRegistry(TicketRepository ticketRepository, Clock clock, long expectedTicketsPerDraw,
+                         double falsePositiveProbability, int retainedDraws, Duration commitGrace) {
+        this.ticketRepository = ticketRepository;
+        this.clock = clock;
+        this.expectedTicketsPerDraw = expectedTicketsPerDraw;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.retainedDraws = retainedDraws;
+        this.commitGrace = commitGrace;
+    }
+
+    boolean mightHaveIssued(String hash) {
+        if (!rebuilt) {
+            return true;
+        }
+        for (DrawFilter drawFilter : filtersByDraw.values()) {
+            if (drawFilter.filter().mightContain(hash)) {
+                return true;
+            }
+        }
+        OptionalLong createdAt = TimeOrderedId.timestampMillis(hash);
+        if (createdAt.isEmpty()) {
+            return true;
+        }
+        Instant created = Instant.ofEpochMilli(createdAt.getAsLong());
+        if (created.isAfter(clock.instant().plus(commitGrace))) {
+            return false;
+        }
+        Integer issuedDrawId = retainedDrawOpenAt(DrawId.of(LocalDateTime.ofInstant(created, clock.getZone())));
+        if (issuedDrawId == null) {
+            return true;
+        }
+        DrawFilter issuedDrawFilter = filtersByDraw.get(issuedDrawId);
+        if (issuedDrawFilter == null) {
+            return true;
+        }
+        Instant drawTime = DrawId.toDrawDate(issuedDrawId).atZone(clock.getZone()).toInstant();
+        return !created.isBefore(min(issuedDrawFilter.seededAt(), drawTime).minus(commitGrace));
+    }
+
+    void record(int drawId, String hash) {
+        filterFor(drawId).filter().put(hash);
+    }
+
+    void rebuild(LocalDateTime nextDrawDate) {
+        for (int i = retainedDraws - 1; i >= 0; i--) {
+            filterFor(DrawId.of(nextDrawDate.minusWeeks(i)));
+        }
+        rebuilt = true;
+    }
+
+    /**
+     * Seeds the closed draw's filter again, now that no instance issues tickets for it any more.
+     */
+    void reseed(int closedDrawId) {
+        filtersByDraw.computeIfPresent(closedDrawId, (drawId, stale) -> seed(drawId));
+    }
+
+    private Integer retainedDrawOpenAt(int createdDrawMinute) {
+        for (int drawId : filtersByDraw.keySet()) {
+            int previousDrawId = DrawId.of(DrawId.toDrawDate(drawId).minusWeeks(1));
+            if (previousDrawId <= createdDrawMinute && createdDrawMinute < drawId) {
+                return drawId;
+            }
+        }
+        return null;
+    }
+
+    private static Instant min(Instant first, Instant second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private DrawFilter filterFor(int drawId) {
+        DrawFilter filter = filtersByDraw.get(drawId);
+        if (filter != null) {
+            return filter;
+        }
+        filter = filtersByDraw.computeIfAbsent(drawId, this::seed);
+        dropExpiredDraws();
+        return filter;
+    }
+
+    private synchronized void dropExpiredDraws() {
+        while (filtersByDraw.size() > retainedDraws) {
+            filtersByDraw.keySet().stream()
+                    .min(Integer::compare)
+                    .ifPresent(filtersByDraw::remove);
+        }
+    }
+
+    private DrawFilter seed(int drawId) {
+        Instant seededAt = clock.instant();
+        BloomFilter filter = BloomFilter.create(expectedTicketsPerDraw, falsePositiveProbability);
+        long seeded = 0;
+        try (Stream<Ticket> tickets = ticketRepository.streamAllByDrawId(drawId);
+             Stream<Subscription> subscriptions = ticketRepository.streamAllSubscriptionsCoveringDraw(drawId)) {
+            Iterator<String> hashes = Stream.concat(tickets.map(Ticket::hash), subscriptions.map(Subscription::hash)).iterator();
+            while (hashes.hasNext()) {
+                filter.put(hashes.next());
+                seeded++;
+            }
+        }
+        log.info("Issued ticket filter for draw {} seeded with {} hashes", drawId, seeded);
+        return new DrawFilter(filter, seededAt);
+    }
+
+    private record DrawFilter(BloomFilter filter, Instant seededAt) {
+    }
+}
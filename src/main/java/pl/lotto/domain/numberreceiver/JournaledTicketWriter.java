@@ -0,0 +1,326 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.extern.log4j.Log4j2;
+import pl.lotto.domain.common.BulkWriteReport;
+import pl.lotto.domain.common.NumbersMask;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind ticket intake: a ticket is acknowledged once it is fsynced to a local journal,
+ * concurrent writers share one fsync (group commit) and a committer thread bulk inserts pending tickets.
+ * The journal is truncated whenever everything appended has been committed and replayed on startup; tickets a bulk
+ * insert reports as failed (other than duplicates) are retried and never count as committed.
+ * Writers block while more than {@code maxPendingTickets} wait for the committer, which pushes back on intake.
+ * Closing wakes an idle committer with a signal queued behind the pending tickets, which it drains first.
+ */
+@Log4j2
+class JournaledTicketWriter implements TicketWriter {
+
+    private static final int DRAIN_ATTEMPTS = 3;
+    private static final String FIELD_SEPARATOR = ",";
+    private static final char RECORD_SEPARATOR = '\n';
+    private static final Base64.Encoder OPTIONAL_FIELD_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Ticket CLOSE_SIGNAL = Ticket.builder().hash("").build();
+
+    private final TicketRepository ticketRepository;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxPendingTickets;
+    private final FileChannel journal;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private final Object commitMonitor = new Object();
+    private final BlockingQueue<Ticket> pending = new LinkedBlockingQueue<>();
+    private final Map<String, Ticket> pendingByHash = new ConcurrentHashMap<>();
+    private final Thread committer;
+    private volatile boolean closed;
+    private volatile long synced;
+    private volatile long committed;
+    private long appended;
+
+    JournaledTicketWriter(TicketRepository ticketRepository, Path journalPath, int batchSize, long flushIntervalMillis,
+                          int maxPendingTickets) {
+        this.ticketRepository = ticketRepository;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPendingTickets = maxPendingTickets;
+        try {
+            Path parent = journalPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            replay(journalPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open ticket journal " + journalPath, e);
+        }
+        this.committer = new Thread(this::commitLoop, "ticket-journal-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    @Override
+    public void write(Ticket ticket) {
+        writeAll(List.of(ticket));
+    }
+
+    @Override
+    public BulkWriteReport writeAll(List<Ticket> tickets) {
+        if (closed) {
+            throw new IllegalStateException("Ticket journal is closed");
+        }
+        if (tickets.isEmpty()) {
+            return BulkWriteReport.EMPTY;
+        }
+        awaitCapacity(tickets.size());
+        StringBuilder records = new StringBuilder();
+        tickets.forEach(ticket -> records.append(encode(ticket)));
+        ByteBuffer buffer = StandardCharsets.US_ASCII.encode(records.toString());
+        long sequence;
+        synchronized (appendLock) {
+            try {
+                while (buffer.hasRemaining()) {
+                    journal.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot append tickets to journal", e);
+            }
+            appended += tickets.size();
+            sequence = appended;
+        }
+        sync(sequence);
+        tickets.forEach(ticket -> pendingByHash.put(ticket.hash(), ticket));
+        pending.addAll(tickets);
+        return BulkWriteReport.EMPTY;
+    }
+
+    @Override
+    public Ticket findPending(String hash) {
+        return pendingByHash.get(hash);
+    }
+
+    @Override
+    public List<Ticket> findPendingOfOwner(String ownerId) {
+        return pendingByHash.values()
+                .stream()
+                .filter(ticket -> ownerId.equals(ticket.ownerId()))
+                .toList();
+    }
+
+    @Override
+    public void flush() {
+        long target;
+        synchronized (appendLock) {
+            target = appended;
+        }
+        synchronized (commitMonitor) {
+            while (committed < target && committer.isAlive()) {
+                try {
+                    commitMonitor.wait(flushIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        pending.add(CLOSE_SIGNAL);
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        truncateIfCommitted();
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.warn("Cannot close ticket journal", e);
+        }
+        log.info("Ticket journal closed, {} tickets left uncommitted", pendingByHash.size());
+    }
+
+    private void awaitCapacity(int incomingTickets) {
+        synchronized (commitMonitor) {
+            while (!closed && !pending.isEmpty() && pending.size() + incomingTickets > maxPendingTickets && committer.isAlive()) {
+                try {
+                    commitMonitor.wait(flushIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void sync(long sequence) {
+        if (synced >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (synced >= sequence) {
+                return;
+            }
+            long target;
+            synchronized (appendLock) {
+                target = appended;
+            }
+            try {
+                journal.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot sync ticket journal", e);
+            }
+            synced = target;
+        }
+    }
+
+    private void commitLoop() {
+        List<Ticket> batch = new ArrayList<>(batchSize);
+        while (!closed || !pending.isEmpty()) {
+            try {
+                Ticket first = pending.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null || first == CLOSE_SIGNAL) {
+                    truncateIfCommitted();
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, batchSize - 1);
+                batch.removeIf(ticket -> ticket == CLOSE_SIGNAL);
+                if (!commit(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean commit(List<Ticket> batch) throws InterruptedException {
+        List<Ticket> uncommitted = batch;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                uncommitted = insertMissing(uncommitted);
+                if (uncommitted.isEmpty()) {
+                    break;
+                }
+                log.warn("Committing journaled tickets left {} of {} uninserted, attempt {}", uncommitted.size(), batch.size(), attempt);
+            } catch (RuntimeException e) {
+                log.warn("Committing {} journaled tickets failed, attempt {}", uncommitted.size(), attempt, e);
+            }
+            if (closed && attempt >= DRAIN_ATTEMPTS) {
+                log.error("Giving up draining ticket journal, tickets stay in journal for replay");
+                return false;
+            }
+            Thread.sleep(flushIntervalMillis);
+        }
+        batch.forEach(ticket -> pendingByHash.remove(ticket.hash()));
+        synchronized (commitMonitor) {
+            committed += batch.size();
+            commitMonitor.notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the tickets and returns the ones still missing from the collection. Duplicate keys mean the ticket
+     * was committed before, e.g. by a replay that crashed midway, and count as committed.
+     */
+    private List<Ticket> insertMissing(List<Ticket> tickets) {
+        return ticketRepository.insertAllUnordered(tickets).retryable().stream()
+                .map(Ticket.class::cast)
+                .toList();
+    }
+
+    private void truncateIfCommitted() {
+        synchronized (appendLock) {
+            try {
+                if (committed == appended && journal.isOpen() && journal.size() > 0) {
+                    journal.truncate(0);
+                    journal.force(true);
+                }
+            } catch (IOException e) {
+                log.warn("Cannot truncate ticket journal", e);
+            }
+        }
+    }
+
+    private void replay(Path journalPath) throws IOException {
+        String content = Files.readString(journalPath, StandardCharsets.US_ASCII);
+        int lastRecordEnd = content.lastIndexOf(RECORD_SEPARATOR);
+        if (lastRecordEnd < 0) {
+            journal.truncate(0);
+            return;
+        }
+        List<Ticket> tickets = new ArrayList<>();
+        for (String record : content.substring(0, lastRecordEnd).split(String.valueOf(RECORD_SEPARATOR))) {
+            if (!record.isBlank()) {
+                tickets.add(decode(record));
+            }
+        }
+        for (int from = 0; from < tickets.size(); from += batchSize) {
+            List<Ticket> uncommitted = insertMissing(tickets.subList(from, Math.min(from + batchSize, tickets.size())));
+            for (int attempt = 1; !uncommitted.isEmpty(); attempt++) {
+                if (attempt >= DRAIN_ATTEMPTS) {
+                    throw new IllegalStateException("Cannot replay " + uncommitted.size()
+                            + " journaled tickets, journal " + journalPath + " is kept for the next replay");
+                }
+                uncommitted = insertMissing(uncommitted);
+            }
+        }
+        journal.truncate(0);
+        journal.force(true);
+        log.info("Replayed {} tickets from journal {}", tickets.size(), journalPath);
+    }
+
+    private static String encode(Ticket ticket) {
+        String record = ticket.hash() + FIELD_SEPARATOR + ticket.numbers().low() + FIELD_SEPARATOR + ticket.numbers().high()
+                + FIELD_SEPARATOR + ticket.drawId();
+        if (ticket.idempotencyKey() != null || ticket.ownerId() != null) {
+            record += FIELD_SEPARATOR + encodeOptional(ticket.idempotencyKey()) + FIELD_SEPARATOR + encodeOptional(ticket.ownerId());
+        }
+        return record + RECORD_SEPARATOR;
+    }
+
+    private static Ticket decode(String record) {
+        String[] fields = record.split(FIELD_SEPARATOR);
+        return Ticket.builder()
+                .hash(fields[0])
+                .numbers(new NumbersMask(Long.parseLong(fields[1]), Long.parseLong(fields[2])))
+                .drawId(Integer.parseInt(fields[3]))
+                .idempotencyKey(decodeOptional(fields, 4))
+                .ownerId(decodeOptional(fields, 5))
+                .build();
+    }
+
+    private static String encodeOptional(String value) {
+        return value == null ? "" : OPTIONAL_FIELD_ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeOptional(String[] fields, int index) {
+        if (fields.length <= index || fields[index].isEmpty()) {
+            return null;
+        }
+        return new String(Base64.getUrlDecoder().decode(fields[index]), StandardCharsets.UTF_8);
+    }
+}
@@ -1,27 +1,117 @@
 package pl.lotto.domain.numberreceiver;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import pl.lotto.domain.drawdategenerator.DrawDateConfiguration;
+import pl.lotto.domain.drawdategenerator.DrawDateFacade;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 public class NumberReceiverConfiguration {
 
+    private static final int DEFAULT_WRITE_BEHIND_BATCH_SIZE = 1000;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+    private static final int DEFAULT_MAX_SUBSCRIPTION_DRAWS = 52;
+    private static final int DEFAULT_MAX_PENDING_TICKETS = 100_000;
+    private static final long DEFAULT_EXPECTED_TICKETS_PER_DRAW = 1_000_000;
+    private static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final int DEFAULT_ISSUED_TICKETS_RETAINED_DRAWS = 8;
+    private static final long DEFAULT_ISSUED_TICKETS_COMMIT_GRACE_SECONDS = 60;
+    private static final long DEFAULT_LOOKUP_CACHE_MAXIMUM_SIZE = 100_000;
+    private static final long DEFAULT_LOOKUP_CACHE_EXPIRE_AFTER_ACCESS_SECONDS = 600;
+    private static final String LOOKUP_CACHE_NAME = "ticketLookup";
+
     @Bean
-    Clock clock() {
-        return Clock.systemUTC();
+    HashGenerable hashGenerable(Clock clock) {
+        return new TimeOrderedHashGenerator(clock);
     }
 
     @Bean
-    HashGenerable hashGenerable() {
-        return new HashGenerator();
+    TicketWriter ticketWriter(TicketRepository ticketRepository, TicketWriteBehindConfigurationProperties properties) {
+        if (!properties.enabled()) {
+            return new RepositoryTicketWriter(ticketRepository);
+        }
+        int batchSize = properties.batchSize() > 0 ? properties.batchSize() : DEFAULT_WRITE_BEHIND_BATCH_SIZE;
+        long flushIntervalMillis = properties.flushIntervalMillis() > 0 ? properties.flushIntervalMillis() : DEFAULT_FLUSH_INTERVAL_MILLIS;
+        int maxPendingTickets = properties.maxPendingTickets() > 0 ? properties.maxPendingTickets() : DEFAULT_MAX_PENDING_TICKETS;
+        return new JournaledTicketWriter(ticketRepository, Path.of(properties.journalPath()), batchSize, flushIntervalMillis, maxPendingTickets);
     }
 
     @Bean
-    NumberReceiverFacade numberReceiverFacade(HashGenerable hashGenerator, Clock clock, TicketRepository ticketRepository) {
+    TicketLookupCache ticketLookupCache(TicketLookupCacheConfigurationProperties properties, MeterRegistry meterRegistry) {
+        long maximumSize = properties.maximumSize() > 0 ? properties.maximumSize() : DEFAULT_LOOKUP_CACHE_MAXIMUM_SIZE;
+        long expireAfterAccessSeconds = properties.expireAfterAccessSeconds() > 0
+                ? properties.expireAfterAccessSeconds() : DEFAULT_LOOKUP_CACHE_EXPIRE_AFTER_ACCESS_SECONDS;
+        TicketLookupCache ticketLookupCache = new TicketLookupCache(maximumSize, Duration.ofSeconds(expireAfterAccessSeconds));
+        CaffeineCacheMetrics.monitor(meterRegistry, ticketLookupCache.cache(), LOOKUP_CACHE_NAME);
+        return ticketLookupCache;
+    }
+
+    @Bean
+    NumberReceiverFacade numberReceiverFacade(HashGenerable hashGenerator, Clock clock, DrawDateFacade drawDateFacade, TicketRepository ticketRepository,
+                                              TicketWriter ticketWriter, TicketLookupCache ticketLookupCache,
+                                              NumberReceiverFacadeConfigurationProperties properties,
+                                              TicketIdempotencyConfigurationProperties idempotencyProperties,
+                                              IssuedTicketFilterConfigurationProperties issuedTicketProperties) {
         NumberValidator numberValidator = new NumberValidator();
-        DrawDateGenerator drawDateGenerator = new DrawDateGenerator(clock);
-        return new NumberReceiverFacade(numberValidator, drawDateGenerator, hashGenerator, ticketRepository);
+        int maxBatchSize = properties.maxBatchSize() > 0 ? properties.maxBatchSize() : DEFAULT_MAX_BATCH_SIZE;
+        int maxSubscriptionDraws = properties.maxSubscriptionDraws() > 0 ? properties.maxSubscriptionDraws() : DEFAULT_MAX_SUBSCRIPTION_DRAWS;
+        long expectedTicketsPerDraw = idempotencyProperties.expectedTicketsPerDraw() > 0
+                ? idempotencyProperties.expectedTicketsPerDraw() : DEFAULT_EXPECTED_TICKETS_PER_DRAW;
+        double falsePositiveProbability = idempotencyProperties.falsePositiveProbability() > 0
+                ? idempotencyProperties.falsePositiveProbability() : DEFAULT_FALSE_POSITIVE_PROBABILITY;
+        IdempotencyKeyRegistry idempotencyKeys = new IdempotencyKeyRegistry(ticketRepository, expectedTicketsPerDraw, falsePositiveProbability);
+        IssuedTicketRegistry issuedTickets = new IssuedTicketRegistry(ticketRepository, clock,
+                issuedTicketProperties.expectedTicketsPerDraw() > 0
+                        ? issuedTicketProperties.expectedTicketsPerDraw() : DEFAULT_EXPECTED_TICKETS_PER_DRAW,
+                issuedTicketProperties.falsePositiveProbability() > 0
+                        ? issuedTicketProperties.falsePositiveProbability() : DEFAULT_FALSE_POSITIVE_PROBABILITY,
+                issuedTicketProperties.retainedDraws() > 0
+                        ? issuedTicketProperties.retainedDraws() : DEFAULT_ISSUED_TICKETS_RETAINED_DRAWS,
+                Duration.ofSeconds(issuedTicketProperties.commitGraceSeconds() > 0
+                        ? issuedTicketProperties.commitGraceSeconds() : DEFAULT_ISSUED_TICKETS_COMMIT_GRACE_SECONDS));
+        return new NumberReceiverFacade(numberValidator, drawDateFacade, hashGenerator, ticketRepository, ticketWriter,
+                ticketLookupCache, idempotencyKeys, issuedTickets, new QuickPickGenerator(), maxBatchSize, maxSubscriptionDraws);
+    }
+
+    NumberReceiverFacade createForTest(HashGenerable hashGenerator, Clock clock, TicketRepository ticketRepository) {
+        return createForTest(hashGenerator, clock, ticketRepository, new RepositoryTicketWriter(ticketRepository));
+    }
+
+    NumberReceiverFacade createForTest(HashGenerable hashGenerator, Clock clock, TicketRepository ticketRepository, TicketWriter ticketWriter) {
+        return createForTest(hashGenerator, clock, ticketRepository, ticketWriter, new SimpleMeterRegistry());
+    }
+
+    NumberReceiverFacade createForTest(HashGenerable hashGenerator, Clock clock, TicketRepository ticketRepository, TicketWriter ticketWriter,
+                                       MeterRegistry meterRegistry) {
+        NumberReceiverFacadeConfigurationProperties properties = NumberReceiverFacadeConfigurationProperties.builder()
+                .maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
+                .maxSubscriptionDraws(DEFAULT_MAX_SUBSCRIPTION_DRAWS)
+                .build();
+        TicketIdempotencyConfigurationProperties idempotencyProperties = TicketIdempotencyConfigurationProperties.builder()
+                .expectedTicketsPerDraw(DEFAULT_EXPECTED_TICKETS_PER_DRAW)
+                .falsePositiveProbability(DEFAULT_FALSE_POSITIVE_PROBABILITY)
+                .build();
+        IssuedTicketFilterConfigurationProperties issuedTicketProperties = IssuedTicketFilterConfigurationProperties.builder()
+                .expectedTicketsPerDraw(DEFAULT_EXPECTED_TICKETS_PER_DRAW)
+                .falsePositiveProbability(DEFAULT_FALSE_POSITIVE_PROBABILITY)
+                .retainedDraws(DEFAULT_ISSUED_TICKETS_RETAINED_DRAWS)
+                .commitGraceSeconds(DEFAULT_ISSUED_TICKETS_COMMIT_GRACE_SECONDS)
+                .build();
+        TicketLookupCacheConfigurationProperties lookupCacheProperties = TicketLookupCacheConfigurationProperties.builder()
+                .maximumSize(DEFAULT_LOOKUP_CACHE_MAXIMUM_SIZE)
+                .expireAfterAccessSeconds(DEFAULT_LOOKUP_CACHE_EXPIRE_AFTER_ACCESS_SECONDS)
+                .build();
+        DrawDateFacade drawDateFacade = new DrawDateConfiguration().drawDateFacade(clock);
+        TicketLookupCache ticketLookupCache = ticketLookupCache(lookupCacheProperties, meterRegistry);
+        return numberReceiverFacade(hashGenerator, clock, drawDateFacade, ticketRepository, ticketWriter, ticketLookupCache,
+                properties, idempotencyProperties, issuedTicketProperties);
     }
 }
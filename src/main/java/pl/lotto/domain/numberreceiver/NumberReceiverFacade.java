@@ -2,31 +2,71 @@ package pl.lotto.domain.numberreceiver;
 
 
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.DrawTicketId;
+import pl.lotto.domain.common.NumbersMask;
+import pl.lotto.domain.drawdategenerator.DrawDateFacade;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverBatchResponseDto;
 import pl.lotto.domain.numberreceiver.dto.NumberReceiverResponseDto;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverSubscriptionResponseDto;
+import pl.lotto.domain.numberreceiver.dto.OwnerTicketDto;
+import pl.lotto.domain.numberreceiver.dto.OwnerTicketsPageDto;
+import pl.lotto.domain.numberreceiver.dto.SubscriptionDto;
 import pl.lotto.domain.numberreceiver.dto.TicketDto;
+import pl.lotto.domain.numberreceiver.dto.TicketResultStatus;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static pl.lotto.domain.numberreceiver.ValidationResult.INPUT_SUCCESS;
+import static pl.lotto.domain.numberreceiver.ValidationResult.SUBSCRIPTION_DRAWS_OUT_OF_RANGE;
+import static pl.lotto.domain.numberreceiver.ValidationResult.TICKET_NOT_SAVED;
 
 @AllArgsConstructor
 public class NumberReceiverFacade {
+
+    private static final int MAX_OWNER_TICKETS_PAGE_SIZE = 200;
+
     private final NumberValidator numberValidator;
-    private final DrawDateGenerator drawDateGenerator;
+    private final DrawDateFacade drawDateFacade;
     private final HashGenerable hashGenerator;
     private final TicketRepository ticketRepository;
+    private final TicketWriter ticketWriter;
+    private final TicketLookupCache ticketLookupCache;
+    private final IdempotencyKeyRegistry idempotencyKeys;
+    private final IssuedTicketRegistry issuedTickets;
+    private final QuickPickGenerator quickPickGenerator;
+    private final int maxBatchSize;
+    private final int maxSubscriptionDraws;
 
     public NumberReceiverResponseDto inputNumbers(Set<Integer> numbersFromUser) {
-        List<ValidationResult> validationResultList = numberValidator.validate(numbersFromUser);
-        if (!validationResultList.isEmpty()) {
-            String resultMessage = numberValidator.createResultMessage();
-            return new NumberReceiverResponseDto(null, resultMessage);
+        return inputNumbers(numbersFromUser, null, null);
+    }
+
+    public NumberReceiverResponseDto inputNumbers(Set<Integer> numbersFromUser, String idempotencyKey, String ownerId) {
+        NumbersValidation validation = numberValidator.validate(numbersFromUser);
+        if (!validation.isValid()) {
+            return new NumberReceiverResponseDto(null, validation.message());
+        }
+        LocalDateTime drawDate = drawDateFacade.getNextDrawDate();
+        int drawId = DrawId.of(drawDate);
+        if (idempotencyKey != null) {
+            Ticket originalTicket = findByIdempotencyKey(drawId, idempotencyKey);
+            if (originalTicket != null) {
+                return new NumberReceiverResponseDto(mapToTicketDto(originalTicket), INPUT_SUCCESS.info);
+            }
         }
-        LocalDateTime drawDate = drawDateGenerator.getNextDrawDate();
 
         String hash = hashGenerator.getHash();
 
@@ -38,47 +78,318 @@ public class NumberReceiverFacade {
 
         Ticket savedTicket = Ticket.builder()
                 .hash(hash)
-                .numbers(generatedTicket.numbers())
-                .drawDate(generatedTicket.drawDate())
+                .numbers(NumbersMask.of(generatedTicket.numbers()))
+                .drawId(drawId)
+                .idempotencyKey(idempotencyKey)
+                .ownerId(ownerId)
                 .build();
 
-        ticketRepository.save(savedTicket);
+        if (idempotencyKey == null) {
+            ticketWriter.write(savedTicket);
+        } else {
+            Ticket originalTicket = insertOnce(savedTicket);
+            idempotencyKeys.record(drawId, idempotencyKey);
+            if (originalTicket != null) {
+                return new NumberReceiverResponseDto(mapToTicketDto(originalTicket), INPUT_SUCCESS.info);
+            }
+        }
+        ticketLookupCache.put(savedTicket);
+        issuedTickets.record(drawId, hash);
 
         return new NumberReceiverResponseDto(generatedTicket, INPUT_SUCCESS.info);
     }
 
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public NumberReceiverBatchResponseDto inputNumbersBatch(List<Set<Integer>> numbersFromUserBatch) {
+        return inputNumbersBatch(numbersFromUserBatch, null);
+    }
+
+    public NumberReceiverBatchResponseDto inputNumbersBatch(List<Set<Integer>> numbersFromUserBatch, String ownerId) {
+        if (numbersFromUserBatch.size() > maxBatchSize) {
+            throw new TicketBatchTooLargeException("Batch of " + numbersFromUserBatch.size()
+                    + " tickets exceeds limit of " + maxBatchSize);
+        }
+        LocalDateTime drawDate = drawDateFacade.getNextDrawDate();
+        int drawId = DrawId.of(drawDate);
+        List<NumberReceiverResponseDto> results = new ArrayList<>(numbersFromUserBatch.size());
+        List<Ticket> tickets = new ArrayList<>(numbersFromUserBatch.size());
+        for (Set<Integer> numbersFromUser : numbersFromUserBatch) {
+            NumbersValidation validation = numberValidator.validate(numbersFromUser);
+            if (!validation.isValid()) {
+                results.add(new NumberReceiverResponseDto(null, validation.message()));
+                continue;
+            }
+            String hash = hashGenerator.getHash();
+            tickets.add(Ticket.builder()
+                    .hash(hash)
+                    .numbers(NumbersMask.of(numbersFromUser))
+                    .drawId(drawId)
+                    .ownerId(ownerId)
+                    .build());
+            TicketDto generatedTicket = TicketDto.builder()
+                    .hash(hash)
+                    .numbers(numbersFromUser)
+                    .drawDate(drawDate)
+                    .build();
+            results.add(new NumberReceiverResponseDto(generatedTicket, INPUT_SUCCESS.info));
+        }
+        return storeBatch(drawId, tickets, results);
+    }
+
+    public NumberReceiverBatchResponseDto inputQuickPicks(int count, String ownerId) {
+        if (count > maxBatchSize) {
+            throw new TicketBatchTooLargeException("Batch of " + count
+                    + " tickets exceeds limit of " + maxBatchSize);
+        }
+        LocalDateTime drawDate = drawDateFacade.getNextDrawDate();
+        int drawId = DrawId.of(drawDate);
+        List<NumberReceiverResponseDto> results = new ArrayList<>(count);
+        List<Ticket> tickets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            NumbersMask numbers = quickPickGenerator.generate();
+            String hash = hashGenerator.getHash();
+            tickets.add(Ticket.builder()
+                    .hash(hash)
+                    .numbers(numbers)
+                    .drawId(drawId)
+                    .ownerId(ownerId)
+                    .build());
+            TicketDto generatedTicket = TicketDto.builder()
+                    .hash(hash)
+                    .numbers(numbers.toSet())
+                    .drawDate(drawDate)
+                    .build();
+            results.add(new NumberReceiverResponseDto(generatedTicket, INPUT_SUCCESS.info));
+        }
+        return storeBatch(drawId, tickets, results);
+    }
+
+    /**
+     * Bulk writes the batch's tickets; only the ones stored are cached, recorded as issued and counted as accepted,
+     * the receipts of the rest are turned into errors.
+     */
+    private NumberReceiverBatchResponseDto storeBatch(int drawId, List<Ticket> tickets, List<NumberReceiverResponseDto> results) {
+        Set<String> notSaved = ticketWriter.writeAll(tickets).retryable().stream()
+                .map(ticket -> ((Ticket) ticket).hash())
+                .collect(Collectors.toSet());
+        List<Ticket> saved = notSaved.isEmpty() ? tickets : tickets.stream()
+                .filter(ticket -> !notSaved.contains(ticket.hash()))
+                .toList();
+        ticketLookupCache.putAll(saved);
+        saved.forEach(ticket -> issuedTickets.record(drawId, ticket.hash()));
+        List<NumberReceiverResponseDto> receipts = notSaved.isEmpty() ? results : results.stream()
+                .map(result -> result.ticketDto() != null && notSaved.contains(result.ticketDto().hash())
+                        ? new NumberReceiverResponseDto(null, TICKET_NOT_SAVED.info)
+                        : result)
+                .toList();
+        return NumberReceiverBatchResponseDto.builder()
+                .results(receipts)
+                .accepted(saved.size())
+                .rejected(results.size() - saved.size())
+                .build();
+    }
+
+    public NumberReceiverSubscriptionResponseDto inputSubscription(Set<Integer> numbersFromUser, int draws) {
+        return inputSubscription(numbersFromUser, draws, null);
+    }
+
+    public NumberReceiverSubscriptionResponseDto inputSubscription(Set<Integer> numbersFromUser, int draws, String ownerId) {
+        NumbersValidation validation = numberValidator.validate(numbersFromUser);
+        if (!validation.isValid()) {
+            return new NumberReceiverSubscriptionResponseDto(null, validation.message());
+        }
+        if (draws < 1 || draws > maxSubscriptionDraws) {
+            return new NumberReceiverSubscriptionResponseDto(null,
+                    String.format(SUBSCRIPTION_DRAWS_OUT_OF_RANGE.info, maxSubscriptionDraws));
+        }
+        LocalDateTime firstDrawDate = drawDateFacade.getNextDrawDate();
+        LocalDateTime lastDrawDate = firstDrawDate.plusWeeks(draws - 1L);
+        int firstDrawId = DrawId.of(firstDrawDate);
+        String hash = hashGenerator.getHash();
+        ticketRepository.insertSubscription(Subscription.builder()
+                .hash(hash)
+                .numbers(NumbersMask.of(numbersFromUser))
+                .firstDrawId(firstDrawId)
+                .lastDrawId(DrawId.of(lastDrawDate))
+                .ownerId(ownerId)
+                .build());
+        issuedTickets.record(firstDrawId, hash);
+        SubscriptionDto subscriptionDto = SubscriptionDto.builder()
+                .hash(hash)
+                .numbers(numbersFromUser)
+                .firstDrawDate(firstDrawDate)
+                .lastDrawDate(lastDrawDate)
+                .build();
+        return new NumberReceiverSubscriptionResponseDto(subscriptionDto, INPUT_SUCCESS.info);
+    }
+
     public List<TicketDto> retrieveAllTicketsByNextDrawDate() {
-        LocalDateTime nextDrawDate = drawDateGenerator.getNextDrawDate();
-        return retrieveAllTicketsByNextDrawDate(nextDrawDate);
+        return findAllTicketsByDrawDate(drawDateFacade.getNextDrawDate());
     }
 
     public List<TicketDto> retrieveAllTicketsByNextDrawDate(LocalDateTime date) {
-        LocalDateTime nextDrawDate = drawDateGenerator.getNextDrawDate();
-        if (date.isAfter(nextDrawDate)) {
+        if (date.isAfter(drawDateFacade.getNextDrawDate())) {
             return Collections.emptyList();
         }
-        return ticketRepository.findAllTicketsByDrawDate(date)
+        return findAllTicketsByDrawDate(date);
+    }
+
+    private List<TicketDto> findAllTicketsByDrawDate(LocalDateTime date) {
+        int drawId = DrawId.of(date);
+        List<TicketDto> tickets = ticketRepository.findAllTicketsByDrawId(drawId)
                 .stream()
-                .filter(ticket -> ticket.drawDate().isEqual(date))
-                .map(ticket -> TicketDto.builder()
-                        .hash(ticket.hash())
-                        .numbers(ticket.numbers())
-                        .drawDate(ticket.drawDate())
-                        .build())
+                .filter(ticket -> ticket.drawId() == drawId)
+                .map(NumberReceiverFacade::mapToTicketDto)
                 .collect(Collectors.toList());
+        try (Stream<Subscription> subscriptions = ticketRepository.streamAllSubscriptionsCoveringDraw(drawId)) {
+            subscriptions.filter(subscription -> subscription.coversDraw(drawId))
+                    .map(subscription -> mapToDrawTicketDto(subscription, drawId))
+                    .forEach(tickets::add);
+        }
+        return tickets;
+    }
+
+    public long forEachTicketBatchByDrawDate(LocalDateTime date, int batchSize, Consumer<List<TicketDto>> batchConsumer) {
+        LocalDateTime nextDrawDate = drawDateFacade.getNextDrawDate();
+        if (date.isAfter(nextDrawDate)) {
+            return 0;
+        }
+        long ticketsCount = 0;
+        int drawId = DrawId.of(date);
+        List<TicketDto> batch = new ArrayList<>(batchSize);
+        try (Stream<Ticket> tickets = ticketRepository.streamAllByDrawId(drawId);
+             Stream<Subscription> subscriptions = ticketRepository.streamAllSubscriptionsCoveringDraw(drawId)) {
+            Iterator<TicketDto> iterator = Stream.concat(
+                    tickets.map(NumberReceiverFacade::mapToTicketDto),
+                    subscriptions.map(subscription -> mapToDrawTicketDto(subscription, drawId))).iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(batch);
+                    ticketsCount += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+            ticketsCount += batch.size();
+        }
+        return ticketsCount;
+    }
+
+    /**
+     * Pages the owner's tickets newest hash first. Tickets still pending in the writer are merged into the stored
+     * page; they are read before the repository so one committed in between is found in the repository instead.
+     */
+    public OwnerTicketsPageDto retrieveTicketsOfOwner(String ownerId, String afterHash, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_OWNER_TICKETS_PAGE_SIZE);
+        List<Ticket> pendingTickets = ticketWriter.findPendingOfOwner(ownerId);
+        Map<String, OwnedTicket> page = new TreeMap<>(Comparator.reverseOrder());
+        ticketRepository.findPageOfOwner(ownerId, afterHash, pageSize)
+                .forEach(ticket -> page.put(ticket.hash(), ticket));
+        pendingTickets.stream()
+                .filter(ticket -> afterHash == null || ticket.hash().compareTo(afterHash) < 0)
+                .forEach(ticket -> page.putIfAbsent(ticket.hash(), new OwnedTicket(ticket.hash(), ticket.numbers(), ticket.drawId(), null)));
+        List<OwnerTicketDto> tickets = page.values()
+                .stream()
+                .limit(pageSize)
+                .map(NumberReceiverFacade::mapToOwnerTicketDto)
+                .toList();
+        String nextCursor = tickets.size() == pageSize ? tickets.get(tickets.size() - 1).hash() : null;
+        return new OwnerTicketsPageDto(tickets, nextCursor);
     }
 
     public LocalDateTime retrieveNextDrawDate() {
-        return drawDateGenerator.getNextDrawDate();
+        return drawDateFacade.getNextDrawDate();
     }
 
 
+    public void flushPendingTickets() {
+        ticketWriter.flush();
+    }
+
+    /**
+     * Cheap pre-check for result lookups: {@code false} proves no ticket or subscription was issued under the
+     * given result id within the retained draws, {@code true} means it may have been.
+     */
+    public boolean mightHaveIssued(String resultId) {
+        return issuedTickets.mightHaveIssued(DrawTicketId.parse(resultId).map(DrawTicketId::hash).orElse(resultId));
+    }
+
+    public void rebuildIssuedTicketFilter() {
+        ticketWriter.flush();
+        issuedTickets.rebuild(drawDateFacade.getNextDrawDate());
+    }
+
+    public void reseedIssuedTicketFilter(LocalDateTime closedDrawDate) {
+        issuedTickets.reseed(DrawId.of(closedDrawDate));
+    }
+
     public TicketDto findByHash(String hash) {
-        Ticket ticket = ticketRepository.findByHash(hash);
+        Ticket ticket = ticketLookupCache.find(hash);
+        if (ticket == null) {
+            Ticket pendingTicket = ticketWriter.findPending(hash);
+            ticket = pendingTicket != null ? pendingTicket : ticketRepository.findByHash(hash);
+            if (ticket != null) {
+                ticketLookupCache.put(ticket);
+            }
+        }
+        return mapToTicketDto(ticket);
+    }
+
+    private Ticket findByIdempotencyKey(int drawId, String idempotencyKey) {
+        if (!idempotencyKeys.mightHaveSeen(drawId, idempotencyKey)) {
+            return null;
+        }
+        return ticketRepository.findByDrawIdAndIdempotencyKey(drawId, idempotencyKey);
+    }
+
+    /**
+     * Tickets with an idempotency key bypass write-behind: the unique {drawId, idempotencyKey} index is what stops
+     * concurrent retries from both passing {@link #findByIdempotencyKey} and creating two tickets, so the insert has to
+     * succeed before the ticket is acknowledged. Returns the original ticket when a concurrent retry won.
+     */
+    private Ticket insertOnce(Ticket ticket) {
+        try {
+            ticketRepository.insertIntoDraw(ticket);
+            return null;
+        } catch (DuplicateKeyException e) {
+            Ticket originalTicket = ticketRepository.findByDrawIdAndIdempotencyKey(ticket.drawId(), ticket.idempotencyKey());
+            if (originalTicket == null) {
+                throw e;
+            }
+            return originalTicket;
+        }
+    }
+
+    private static OwnerTicketDto mapToOwnerTicketDto(OwnedTicket ticket) {
+        TicketResultStatus status = ticket.isWinner() == null ? TicketResultStatus.PENDING
+                : ticket.isWinner() ? TicketResultStatus.WON : TicketResultStatus.LOST;
+        return OwnerTicketDto.builder()
+                .hash(ticket.hash())
+                .numbers(ticket.numbers().toSet())
+                .drawDate(DrawId.toDrawDate(ticket.drawId()))
+                .status(status)
+                .build();
+    }
+
+    private static TicketDto mapToDrawTicketDto(Subscription subscription, int drawId) {
+        return TicketDto.builder()
+                .hash(DrawTicketId.of(subscription.hash(), drawId))
+                .numbers(subscription.numbers().toSet())
+                .drawDate(DrawId.toDrawDate(drawId))
+                .build();
+    }
+
+    private static TicketDto mapToTicketDto(Ticket ticket) {
         return TicketDto.builder()
                 .hash(ticket.hash())
-                .numbers(ticket.numbers())
-                .drawDate(ticket.drawDate())
+                .numbers(ticket.numbers().toSet())
+                .drawDate(DrawId.toDrawDate(ticket.drawId()))
                 .build();
     }
 }
@@ -0,0 +1,9 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.number-receiver")
+@Builder
+public record NumberReceiverFacadeConfigurationProperties(int maxBatchSize, int maxSubscriptionDraws) {
+}
@@ -0,0 +1,24 @@
+package pl.lotto.domain.numberreceiver;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+record NumbersValidation(List<ValidationResult> errors, String message) {
+
+    static final NumbersValidation VALID = of();
+    static final NumbersValidation NOT_SIX_NUMBERS_GIVEN = of(ValidationResult.NOT_SIX_NUMBERS_GIVEN);
+    static final NumbersValidation NOT_IN_RANGE = of(ValidationResult.NOT_IN_RANGE);
+    static final NumbersValidation NOT_SIX_NUMBERS_GIVEN_AND_NOT_IN_RANGE = of(ValidationResult.NOT_SIX_NUMBERS_GIVEN, ValidationResult.NOT_IN_RANGE);
+
+    boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    private static NumbersValidation of(ValidationResult... errors) {
+        List<ValidationResult> errorList = List.of(errors);
+        String message = errorList.stream()
+                .map(validationResult -> validationResult.info)
+                .collect(Collectors.joining(","));
+        return new NumbersValidation(errorList, message);
+    }
+}
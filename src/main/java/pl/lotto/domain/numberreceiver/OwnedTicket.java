@@ -0,0 +1,10 @@
+package pl.lotto.domain.numberreceiver;
+
+import pl.lotto.domain.common.NumbersMask;
+
+record OwnedTicket(
+        String hash,
+        NumbersMask numbers,
+        int drawId,
+        Boolean isWinner) {
+}
@@ -0,0 +1,40 @@
+package pl.lotto.domain.numberreceiver;
+
+import pl.lotto.domain.common.NumbersMask;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws quick-pick numbers straight into a {@link NumbersMask}: the per-thread generator keeps
+ * concurrent quick-picks contention-free and a repeated number is rejected by its mask bit.
+ */
+class QuickPickGenerator {
+
+    private static final int QUANTITY_OF_NUMBERS = 6;
+    private static final int MIN_NUMBER = 1;
+    private static final int MAX_NUMBER = 99;
+
+    NumbersMask generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long low = 0L;
+        long high = 0L;
+        int drawn = 0;
+        while (drawn < QUANTITY_OF_NUMBERS) {
+            int number = random.nextInt(MIN_NUMBER, MAX_NUMBER + 1);
+            if (number < Long.SIZE) {
+                long bit = 1L << number;
+                if ((low & bit) == 0) {
+                    low |= bit;
+                    drawn++;
+                }
+            } else {
+                long bit = 1L << (number - Long.SIZE);
+                if ((high & bit) == 0) {
+                    high |= bit;
+                    drawn++;
+                }
+            }
+        }
+        return new NumbersMask(low, high);
+    }
+}
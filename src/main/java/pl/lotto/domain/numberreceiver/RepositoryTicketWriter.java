@@ -0,0 +1,43 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.AllArgsConstructor;
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.util.List;
+
+@AllArgsConstructor
+class RepositoryTicketWriter implements TicketWriter {
+
+    private final TicketRepository ticketRepository;
+
+    @Override
+    public void write(Ticket ticket) {
+        ticketRepository.insertIntoDraw(ticket);
+    }
+
+    @Override
+    public BulkWriteReport writeAll(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return BulkWriteReport.EMPTY;
+        }
+        return ticketRepository.insertAllUnordered(tickets);
+    }
+
+    @Override
+    public Ticket findPending(String hash) {
+        return null;
+    }
+
+    @Override
+    public List<Ticket> findPendingOfOwner(String ownerId) {
+        return List.of();
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,24 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.Builder;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import pl.lotto.domain.common.NumbersMask;
+
+@Builder
+@Document
+@CompoundIndex(name = "lastDrawId_firstDrawId", def = "{'lastDrawId': 1, 'firstDrawId': 1}")
+@CompoundIndex(name = "ownerId_hash", def = "{'ownerId': 1, 'hash': -1}")
+record Subscription(
+        @Indexed(unique = true)
+        String hash,
+        NumbersMask numbers,
+        int firstDrawId,
+        int lastDrawId,
+        String ownerId) {
+
+    boolean coversDraw(int drawId) {
+        return firstDrawId <= drawId && drawId <= lastDrawId;
+    }
+}
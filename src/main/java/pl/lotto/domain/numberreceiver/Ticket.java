@@ -1,15 +1,21 @@
 package pl.lotto.domain.numberreceiver;
 
 import lombok.Builder;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
-
-import java.time.LocalDateTime;
-import java.util.Set;
+import pl.lotto.domain.common.NumbersMask;
 
 @Builder
 @Document
+@CompoundIndex(name = "drawId_idempotencyKey_unique", def = "{'drawId': 1, 'idempotencyKey': 1}", unique = true,
+        partialFilter = "{'idempotencyKey': {'$exists': true}}")
+@CompoundIndex(name = "ownerId_hash", def = "{'ownerId': 1, 'hash': -1}")
 record Ticket(
+        @Indexed(unique = true)
         String hash,
-        Set<Integer> numbers,
-        LocalDateTime drawDate) {
+        NumbersMask numbers,
+        int drawId,
+        String idempotencyKey,
+        String ownerId) {
 }
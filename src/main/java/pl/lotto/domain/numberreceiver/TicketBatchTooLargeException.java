@@ -0,0 +1,8 @@
+package pl.lotto.domain.numberreceiver;
+
+public class TicketBatchTooLargeException extends RuntimeException {
+
+    TicketBatchTooLargeException(String message) {
+        super(message);
+    }
+}
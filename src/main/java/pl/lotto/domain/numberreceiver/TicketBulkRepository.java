@@ -0,0 +1,10 @@
+package pl.lotto.domain.numberreceiver;
+
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.util.Collection;
+
+public interface TicketBulkRepository {
+
+    BulkWriteReport insertAllUnordered(Collection<Ticket> tickets);
+}
@@ -0,0 +1,20 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.AllArgsConstructor;
+import pl.lotto.domain.common.BulkWriteReport;
+import pl.lotto.infrastructure.mongo.MongoBulkInserter;
+import pl.lotto.infrastructure.mongo.MongoDrawPartitions;
+
+import java.util.Collection;
+
+@AllArgsConstructor
+class TicketBulkRepositoryImpl implements TicketBulkRepository {
+
+    private final MongoBulkInserter mongoBulkInserter;
+    private final MongoDrawPartitions drawPartitions;
+
+    @Override
+    public BulkWriteReport insertAllUnordered(Collection<Ticket> tickets) {
+        return mongoBulkInserter.insertUnorderedByDraw(tickets, Ticket.class, Ticket::drawId, drawPartitions);
+    }
+}
@@ -0,0 +1,11 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.number-receiver.idempotency")
+@Builder
+public record TicketIdempotencyConfigurationProperties(
+        long expectedTicketsPerDraw,
+        double falsePositiveProbability) {
+}
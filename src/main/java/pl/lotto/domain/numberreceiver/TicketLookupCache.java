@@ -0,0 +1,42 @@
+package pl.lotto.domain.numberreceiver;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Bounded cache of recently written or read tickets, evicting by size and idle time.
+ * Caffeine buffers reads and writes and runs eviction on its maintenance executor, so intake only pays a map put.
+ */
+class TicketLookupCache {
+
+    private final Cache<String, Ticket> tickets;
+
+    TicketLookupCache(long maximumSize, Duration expireAfterAccess) {
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+    }
+
+    Ticket find(String hash) {
+        return tickets.getIfPresent(hash);
+    }
+
+    void put(Ticket ticket) {
+        tickets.put(ticket.hash(), ticket);
+    }
+
+    void putAll(Collection<Ticket> writtenTickets) {
+        for (Ticket ticket : writtenTickets) {
+            tickets.put(ticket.hash(), ticket);
+        }
+    }
+
+    Cache<String, Ticket> cache() {
+        return tickets;
+    }
+}
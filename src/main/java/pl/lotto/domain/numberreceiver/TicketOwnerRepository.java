@@ -0,0 +1,8 @@
+package pl.lotto.domain.numberreceiver;
+
+import java.util.List;
+
+public interface TicketOwnerRepository {
+
+    List<OwnedTicket> findPageOfOwner(String ownerId, String afterHash, int limit);
+}
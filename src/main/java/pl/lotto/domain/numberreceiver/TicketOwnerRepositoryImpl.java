@@ -0,0 +1,105 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.DrawTicketId;
+import pl.lotto.infrastructure.mongo.MongoDrawPartitions;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Newest-first page of an owner's tickets joined with their result in one aggregation per collection, merged with the
+ * per-draw tickets of the owner's subscriptions.
+ * Paging seeks past the last returned hash on the {ownerId, hash} index; hashes are time ordered,
+ * so with partitioning enabled the draw partitions are read newest first until the page is full.
+ */
+@AllArgsConstructor
+class TicketOwnerRepositoryImpl implements TicketOwnerRepository {
+
+    private static final String PLAYER_COLLECTION = "player";
+    private static final String IS_WINNER = "isWinner";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoDrawPartitions drawPartitions;
+
+    @Override
+    public List<OwnedTicket> findPageOfOwner(String ownerId, String afterHash, int limit) {
+        List<OwnedTicket> page = new ArrayList<>(findTicketsPage(ownerId, afterHash, limit));
+        page.addAll(findSubscriptionTicketsPage(ownerId, afterHash, limit));
+        page.sort(Comparator.comparing(OwnedTicket::hash).reversed());
+        return page.size() > limit ? page.subList(0, limit) : page;
+    }
+
+    private List<OwnedTicket> findTicketsPage(String ownerId, String afterHash, int limit) {
+        List<OwnedTicket> page = new ArrayList<>(limit);
+        for (int drawId : drawPartitions.drawIdsNewestFirst(Ticket.class)) {
+            page.addAll(findPage(drawPartitions.collectionFor(Ticket.class, drawId),
+                    drawPartitions.collectionFor(PLAYER_COLLECTION, drawId), ownerId, afterHash, limit - page.size()));
+            if (page.size() == limit) {
+                return page;
+            }
+        }
+        page.addAll(findPage(mongoTemplate.getCollectionName(Ticket.class), PLAYER_COLLECTION, ownerId, afterHash, limit - page.size()));
+        return page;
+    }
+
+    /**
+     * A subscription takes part in every covered draw under a {@link DrawTicketId}, which sorts right after the
+     * subscription hash, so the newest {@code limit} subscriptions before the cursor are enough to fill the page.
+     */
+    private List<OwnedTicket> findSubscriptionTicketsPage(String ownerId, String afterHash, int limit) {
+        Criteria criteria = Criteria.where("ownerId").is(ownerId);
+        if (afterHash != null) {
+            criteria = criteria.and("hash").lt(afterHash);
+        }
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.DESC, "hash")).limit(limit);
+        Map<Integer, List<String>> idsByDraw = new HashMap<>();
+        List<OwnedTicket> page = new ArrayList<>();
+        for (Subscription subscription : mongoTemplate.find(query, Subscription.class)) {
+            for (int drawId = subscription.lastDrawId(); drawId >= subscription.firstDrawId();
+                 drawId = DrawId.of(DrawId.toDrawDate(drawId).minusWeeks(1))) {
+                String id = DrawTicketId.of(subscription.hash(), drawId);
+                if (afterHash == null || id.compareTo(afterHash) < 0) {
+                    page.add(new OwnedTicket(id, subscription.numbers(), drawId, null));
+                    idsByDraw.computeIfAbsent(drawId, ignored -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+        Map<String, Boolean> winners = new HashMap<>();
+        idsByDraw.forEach((drawId, ids) -> {
+            Query players = Query.query(Criteria.where("_id").in(ids));
+            players.fields().include(IS_WINNER);
+            mongoTemplate.find(players, Document.class, drawPartitions.collectionFor(PLAYER_COLLECTION, drawId))
+                    .forEach(player -> winners.put(player.getString("_id"), player.getBoolean(IS_WINNER)));
+        });
+        return page.stream()
+                .map(ticket -> new OwnedTicket(ticket.hash(), ticket.numbers(), ticket.drawId(), winners.get(ticket.hash())))
+                .toList();
+    }
+
+    private List<OwnedTicket> findPage(String ticketCollection, String playerCollection, String ownerId, String afterHash, int limit) {
+        Criteria criteria = Criteria.where("ownerId").is(ownerId);
+        if (afterHash != null) {
+            criteria = criteria.and("hash").lt(afterHash);
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.Direction.DESC, "hash"),
+                Aggregation.limit(limit),
+                Aggregation.lookup(playerCollection, "hash", "_id", "result"),
+                Aggregation.project("hash", "numbers", "drawId")
+                        .and(ArrayOperators.ArrayElemAt.arrayOf("result.isWinner").elementAt(0)).as("isWinner"));
+        return mongoTemplate.aggregate(aggregation, ticketCollection, OwnedTicket.class).getMappedResults();
+    }
+}
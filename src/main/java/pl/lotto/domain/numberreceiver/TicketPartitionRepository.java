@@ -0,0 +1,17 @@
+package pl.lotto.domain.numberreceiver;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+public interface TicketPartitionRepository {
+
+    Ticket insertIntoDraw(Ticket ticket);
+
+    Ticket findByHash(String hash);
+
+    Ticket findByDrawIdAndIdempotencyKey(int drawId, String idempotencyKey);
+
+    Collection<Ticket> findAllTicketsByDrawId(int drawId);
+
+    Stream<Ticket> streamAllByDrawId(int drawId);
+}
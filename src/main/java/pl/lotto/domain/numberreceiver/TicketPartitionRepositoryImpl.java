@@ -0,0 +1,53 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import pl.lotto.infrastructure.mongo.MongoDrawPartitions;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+@AllArgsConstructor
+class TicketPartitionRepositoryImpl implements TicketPartitionRepository {
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoDrawPartitions drawPartitions;
+
+    @Override
+    public Ticket insertIntoDraw(Ticket ticket) {
+        return mongoTemplate.insert(ticket, drawPartitions.ensureCollectionFor(Ticket.class, ticket.drawId()));
+    }
+
+    @Override
+    public Ticket findByHash(String hash) {
+        Query query = Query.query(Criteria.where("hash").is(hash));
+        return drawPartitions.findByTimeOrderedId(Ticket.class, hash,
+                        collection -> mongoTemplate.findOne(query, Ticket.class, collection))
+                .orElse(null);
+    }
+
+    @Override
+    public Ticket findByDrawIdAndIdempotencyKey(int drawId, String idempotencyKey) {
+        Query query = Query.query(Criteria.where("drawId").is(drawId).and("idempotencyKey").is(idempotencyKey));
+        return mongoTemplate.findOne(query, Ticket.class, drawPartitions.collectionFor(Ticket.class, drawId));
+    }
+
+    @Override
+    public Collection<Ticket> findAllTicketsByDrawId(int drawId) {
+        return mongoTemplate.find(drawQuery(drawId), Ticket.class, drawPartitions.collectionFor(Ticket.class, drawId));
+    }
+
+    @Override
+    public Stream<Ticket> streamAllByDrawId(int drawId) {
+        Query query = drawQuery(drawId).cursorBatchSize(CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, Ticket.class, drawPartitions.collectionFor(Ticket.class, drawId)).stream();
+    }
+
+    private Query drawQuery(int drawId) {
+        return drawPartitions.isEnabled() ? new Query() : Query.query(Criteria.where("drawId").is(drawId));
+    }
+}
@@ -3,14 +3,8 @@ package pl.lotto.domain.numberreceiver;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-import java.util.Collection;
-
 @Repository
-public interface TicketRepository extends MongoRepository<Ticket, String> {
-
-    Collection<Ticket> findAllTicketsByDrawDate(LocalDateTime drawDate);
-
-    Ticket findByHash(String hash);
+public interface TicketRepository extends MongoRepository<Ticket, String>, TicketBulkRepository, TicketPartitionRepository,
+        TicketSubscriptionRepository, TicketOwnerRepository {
 
 }
@@ -0,0 +1,10 @@
+package pl.lotto.domain.numberreceiver;
+
+import java.util.stream.Stream;
+
+public interface TicketSubscriptionRepository {
+
+    Subscription insertSubscription(Subscription subscription);
+
+    Stream<Subscription> streamAllSubscriptionsCoveringDraw(int drawId);
+}
@@ -0,0 +1,28 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.stream.Stream;
+
+@AllArgsConstructor
+class TicketSubscriptionRepositoryImpl implements TicketSubscriptionRepository {
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Subscription insertSubscription(Subscription subscription) {
+        return mongoTemplate.insert(subscription);
+    }
+
+    @Override
+    public Stream<Subscription> streamAllSubscriptionsCoveringDraw(int drawId) {
+        Query query = Query.query(Criteria.where("lastDrawId").gte(drawId).and("firstDrawId").lte(drawId))
+                .cursorBatchSize(CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, Subscription.class).stream();
+    }
+}
@@ -0,0 +1,14 @@
+package pl.lotto.domain.numberreceiver;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.number-receiver.write-behind")
+@Builder
+public record TicketWriteBehindConfigurationProperties(
+        boolean enabled,
+        String journalPath,
+        int batchSize,
+        long flushIntervalMillis,
+        int maxPendingTickets) {
+}
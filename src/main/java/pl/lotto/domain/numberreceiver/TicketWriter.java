@@ -0,0 +1,28 @@
+package pl.lotto.domain.numberreceiver;
+
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.util.List;
+
+interface TicketWriter extends AutoCloseable {
+
+    void write(Ticket ticket);
+
+    /**
+     * Returns what the write did not store: tickets failing other than on a duplicate key are listed as
+     * {@link BulkWriteReport#retryable()}. A write-behind writer that journaled the tickets reports no failures.
+     */
+    BulkWriteReport writeAll(List<Ticket> tickets);
+
+    Ticket findPending(String hash);
+
+    /**
+     * Tickets of the owner written but not yet committed to the repository.
+     */
+    List<Ticket> findPendingOfOwner(String ownerId);
+
+    void flush();
+
+    @Override
+    void close();
+}
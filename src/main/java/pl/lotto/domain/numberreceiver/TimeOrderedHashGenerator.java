@@ -0,0 +1,40 @@
+package pl.lotto.domain.numberreceiver;
+
+import pl.lotto.domain.common.TimeOrderedId;
+
+import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ULID-style 128-bit identifiers: 48 bits of epoch millis and a 16-bit sequence in the high word,
+ * 64 random bits in the low word, rendered as 26 Crockford base32 characters.
+ * The high word is strictly increasing, so hashes sort by creation time and never repeat within an instance.
+ */
+class TimeOrderedHashGenerator implements HashGenerable {
+
+    private static final int SEQUENCE_BITS = 16;
+
+    private final Clock clock;
+    private final AtomicLong lastHigh = new AtomicLong();
+
+    TimeOrderedHashGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String getHash() {
+        return TimeOrderedId.encode(nextHigh(), ThreadLocalRandom.current().nextLong());
+    }
+
+    private long nextHigh() {
+        long candidate = clock.millis() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastHigh.get();
+            long next = Math.max(last + 1, candidate);
+            if (lastHigh.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ enum ValidationResult {
 
     NOT_SIX_NUMBERS_GIVEN("YOU SHOULD GIVE 6 NUMBERS"),
     NOT_IN_RANGE("YOU SHOULD GIVE NUMBERS FROM 1 TO 99"),
+    SUBSCRIPTION_DRAWS_OUT_OF_RANGE("YOU SHOULD SUBSCRIBE FOR 1 TO %d DRAWS"),
+    TICKET_NOT_SAVED("TICKET COULD NOT BE SAVED, PLEASE TRY AGAIN"),
     INPUT_SUCCESS("SUCCESS");
 
     final String info;
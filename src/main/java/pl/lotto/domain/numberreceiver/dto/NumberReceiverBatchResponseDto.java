@@ -0,0 +1,12 @@
+package pl.lotto.domain.numberreceiver.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record NumberReceiverBatchResponseDto(
+        List<NumberReceiverResponseDto> results,
+        int accepted,
+        int rejected) {
+}
@@ -0,0 +1,9 @@
+package pl.lotto.domain.numberreceiver.dto;
+
+import lombok.Builder;
+
+@Builder
+public record NumberReceiverSubscriptionResponseDto(
+        SubscriptionDto subscriptionDto,
+        String message) {
+}
@@ -0,0 +1,14 @@
+package pl.lotto.domain.numberreceiver.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Builder
+public record OwnerTicketDto(
+        String hash,
+        Set<Integer> numbers,
+        LocalDateTime drawDate,
+        TicketResultStatus status) {
+}
@@ -0,0 +1,11 @@
+package pl.lotto.domain.numberreceiver.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record OwnerTicketsPageDto(
+        List<OwnerTicketDto> tickets,
+        String nextCursor) {
+}
@@ -0,0 +1,7 @@
+package pl.lotto.domain.numberreceiver.dto;
+
+public enum TicketResultStatus {
+    PENDING,
+    WON,
+    LOST
+}
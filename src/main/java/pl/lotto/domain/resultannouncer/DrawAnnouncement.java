@@ -0,0 +1,12 @@
+package pl.lotto.domain.resultannouncer;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document
+record DrawAnnouncement(
+        @Id int drawId,
+        LocalDateTime announcedAt) {
+}
@@ -0,0 +1,9 @@
+package pl.lotto.domain.resultannouncer;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DrawAnnouncementRepository extends MongoRepository<DrawAnnouncement, Integer> {
+
+}
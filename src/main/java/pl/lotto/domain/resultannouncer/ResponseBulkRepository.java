@@ -0,0 +1,10 @@
+package pl.lotto.domain.resultannouncer;
+
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.util.Collection;
+
+public interface ResponseBulkRepository {
+
+    BulkWriteReport saveAllUnordered(Collection<ResultResponse> responses);
+}
@@ -0,0 +1,18 @@
+package pl.lotto.domain.resultannouncer;
+
+import lombok.AllArgsConstructor;
+import pl.lotto.domain.common.BulkWriteReport;
+import pl.lotto.infrastructure.mongo.MongoBulkInserter;
+
+import java.util.Collection;
+
+@AllArgsConstructor
+class ResponseBulkRepositoryImpl implements ResponseBulkRepository {
+
+    private final MongoBulkInserter mongoBulkInserter;
+
+    @Override
+    public BulkWriteReport saveAllUnordered(Collection<ResultResponse> responses) {
+        return mongoBulkInserter.upsertUnordered(responses, ResultResponse.class, ResultResponse::hash);
+    }
+}
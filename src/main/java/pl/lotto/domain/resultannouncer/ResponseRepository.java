@@ -5,6 +5,6 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ResponseRepository extends MongoRepository<ResultResponse, String> {
+public interface ResponseRepository extends MongoRepository<ResultResponse, String>, ResponseBulkRepository {
 
 }
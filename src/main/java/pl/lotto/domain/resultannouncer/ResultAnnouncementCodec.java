@@ -0,0 +1,239 @@
+package pl.lotto.domain.resultannouncer;
+
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.NumbersMask;
+import pl.lotto.domain.resultannouncer.dto.ResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Compact binary form of a {@link ResultAnnouncerResponseDto} for shared caches:
+ * {@code typeId, version, flags, messageOrdinal[, drawId, hash, numbers, hitNumbers, wonNumbers]}, where integers are
+ * unsigned varints and number sets are {@link NumbersMask} words. Messages are stored as {@link MessageResponse}
+ * ordinals, so that enum may only be appended to. Changing the layout means a new version that {@link #decode} still
+ * reads alongside the old ones.
+ */
+public class ResultAnnouncementCodec {
+
+    public static final byte TYPE_ID = 0x01;
+
+    private static final byte VERSION_1 = 1;
+    private static final int RESPONSE = 1;
+    private static final int WINNER = 1 << 1;
+    private static final int NUMBERS = 1 << 2;
+    private static final int HIT_NUMBERS = 1 << 3;
+    private static final int WON_NUMBERS = 1 << 4;
+    private static final int MAX_NUMBER = 2 * Long.SIZE - 1;
+    private static final int MAX_VARINT_LONG_BYTES = 10;
+    private static final MessageResponse[] MESSAGES = MessageResponse.values();
+
+    public static boolean canEncode(ResultAnnouncerResponseDto announcement) {
+        if (messageOf(announcement.message()) == null) {
+            return false;
+        }
+        ResponseDto response = announcement.responseDto();
+        if (response == null) {
+            return true;
+        }
+        return response.hash() != null && isWholeMinute(response.drawDate())
+                && fitsMask(response.numbers()) && fitsMask(response.hitNumbers()) && fitsMask(response.wonNumbers());
+    }
+
+    /**
+     * Encodes an announcement {@link #canEncode} accepts; anything else is rejected with an {@link IllegalArgumentException}.
+     */
+    public static byte[] encode(ResultAnnouncerResponseDto announcement) {
+        MessageResponse message = messageOf(announcement.message());
+        ResponseDto response = announcement.responseDto();
+        if (message == null || response != null && (response.hash() == null || !isWholeMinute(response.drawDate()))) {
+            throw new IllegalArgumentException("Announcement cannot be encoded: " + announcement);
+        }
+        byte[] hash = response == null ? new byte[0] : response.hash().getBytes(StandardCharsets.UTF_8);
+        Writer writer = new Writer(4 + 5 + 5 + hash.length + 6 * MAX_VARINT_LONG_BYTES);
+        writer.writeByte(TYPE_ID);
+        writer.writeByte(VERSION_1);
+        writer.writeByte(flagsOf(response));
+        writer.writeByte(message.ordinal());
+        if (response != null) {
+            writer.writeVarLong(DrawId.of(response.drawDate()));
+            writer.writeVarLong(hash.length);
+            writer.writeBytes(hash);
+            writer.writeMask(response.numbers());
+            writer.writeMask(response.hitNumbers());
+            writer.writeMask(response.wonNumbers());
+        }
+        return writer.toByteArray();
+    }
+
+    public static ResultAnnouncerResponseDto decode(byte[] bytes) {
+        if (bytes.length < 4 || bytes[0] != TYPE_ID) {
+            throw new IllegalArgumentException("Not an encoded announcement");
+        }
+        if (bytes[1] != VERSION_1) {
+            throw new IllegalArgumentException("Unsupported announcement encoding version: " + bytes[1]);
+        }
+        return decodeVersion1(bytes);
+    }
+
+    private static ResultAnnouncerResponseDto decodeVersion1(byte[] bytes) {
+        Reader reader = new Reader(bytes, 2);
+        int flags = reader.readByte();
+        int messageOrdinal = reader.readByte();
+        if (messageOrdinal >= MESSAGES.length) {
+            throw new IllegalArgumentException("Unknown announcement message ordinal: " + messageOrdinal);
+        }
+        String message = MESSAGES[messageOrdinal].info;
+        if ((flags & RESPONSE) == 0) {
+            return new ResultAnnouncerResponseDto(null, message);
+        }
+        int drawId = (int) reader.readVarLong();
+        long hashLength = reader.readVarLong();
+        String hash = new String(bytes, reader.skip(hashLength), (int) hashLength, StandardCharsets.UTF_8);
+        ResponseDto response = ResponseDto.builder()
+                .hash(hash)
+                .drawDate(DrawId.toDrawDate(drawId))
+                .isWinner((flags & WINNER) != 0)
+                .numbers((flags & NUMBERS) != 0 ? reader.readMask() : null)
+                .hitNumbers((flags & HIT_NUMBERS) != 0 ? reader.readMask() : null)
+                .wonNumbers((flags & WON_NUMBERS) != 0 ? reader.readMask() : null)
+                .build();
+        return new ResultAnnouncerResponseDto(response, message);
+    }
+
+    private static int flagsOf(ResponseDto response) {
+        if (response == null) {
+            return 0;
+        }
+        int flags = RESPONSE;
+        flags |= response.isWinner() ? WINNER : 0;
+        flags |= response.numbers() != null ? NUMBERS : 0;
+        flags |= response.hitNumbers() != null ? HIT_NUMBERS : 0;
+        flags |= response.wonNumbers() != null ? WON_NUMBERS : 0;
+        return flags;
+    }
+
+    private static MessageResponse messageOf(String info) {
+        for (MessageResponse message : MESSAGES) {
+            if (message.info.equals(info)) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isWholeMinute(LocalDateTime dateTime) {
+        return dateTime != null && dateTime.getSecond() == 0 && dateTime.getNano() == 0;
+    }
+
+    private static boolean fitsMask(Set<Integer> numbers) {
+        if (numbers == null) {
+            return true;
+        }
+        for (Integer number : numbers) {
+            if (number == null || number < 0 || number > MAX_NUMBER) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(MAX_VARINT_LONG_BYTES);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeMask(Set<Integer> numbers) {
+            if (numbers != null) {
+                NumbersMask mask = NumbersMask.of(numbers);
+                writeVarLong(mask.low());
+                writeVarLong(mask.high());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+    }
+
+    private static class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        int readByte() {
+            requireRemaining(1);
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                requireRemaining(1);
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        Set<Integer> readMask() {
+            long low = readVarLong();
+            long high = readVarLong();
+            return new NumbersMask(low, high).toSet();
+        }
+
+        int skip(long length) {
+            requireRemaining(length);
+            int start = position;
+            position += (int) length;
+            return start;
+        }
+
+        private void requireRemaining(long length) {
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated announcement: " + length + " more bytes expected at " + position);
+            }
+        }
+    }
+}
@@ -5,12 +5,34 @@ import org.springframework.context.annotation.Configuration;
 import pl.lotto.domain.resultchecker.ResultCheckerFacade;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 public class ResultAnnouncerConfiguration {
 
+    private static final int DEFAULT_CACHE_RETENTION_DRAWS = 8;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final long DEFAULT_PUBLICATION_TIMEOUT_SECONDS = 600;
+
     @Bean
-    ResultAnnouncerFacade resultAnnouncerFacade(ResultCheckerFacade resultCheckerFacade, ResponseRepository responseRepository, Clock clock) {
-        return new ResultAnnouncerFacade(resultCheckerFacade, responseRepository, clock);
+    ResultAnnouncerFacade resultAnnouncerFacade(ResultCheckerFacade resultCheckerFacade, ResponseRepository responseRepository,
+                                                DrawAnnouncementRepository drawAnnouncementRepository, Clock clock,
+                                                ResultAnnouncerFacadeConfigurationProperties properties) {
+        int cacheRetentionDraws = properties.cacheRetentionDraws() > 0 ? properties.cacheRetentionDraws() : DEFAULT_CACHE_RETENTION_DRAWS;
+        int maxBatchSize = properties.maxBatchSize() > 0 ? properties.maxBatchSize() : DEFAULT_MAX_BATCH_SIZE;
+        long publicationTimeoutSeconds = properties.publicationTimeoutSeconds() > 0
+                ? properties.publicationTimeoutSeconds() : DEFAULT_PUBLICATION_TIMEOUT_SECONDS;
+        return new ResultAnnouncerFacade(resultCheckerFacade, responseRepository, drawAnnouncementRepository, clock,
+                cacheRetentionDraws, maxBatchSize, Duration.ofSeconds(publicationTimeoutSeconds));
+    }
+
+    ResultAnnouncerFacade createForTest(ResultCheckerFacade resultCheckerFacade, ResponseRepository responseRepository,
+                                        DrawAnnouncementRepository drawAnnouncementRepository, Clock clock) {
+        ResultAnnouncerFacadeConfigurationProperties properties = ResultAnnouncerFacadeConfigurationProperties.builder()
+                .cacheRetentionDraws(DEFAULT_CACHE_RETENTION_DRAWS)
+                .maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
+                .publicationTimeoutSeconds(DEFAULT_PUBLICATION_TIMEOUT_SECONDS)
+                .build();
+        return resultAnnouncerFacade(resultCheckerFacade, responseRepository, drawAnnouncementRepository, clock, properties);
     }
 }
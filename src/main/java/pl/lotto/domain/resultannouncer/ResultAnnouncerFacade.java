@@ -2,14 +2,28 @@ package pl.lotto.domain.resultannouncer;
 
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.NumbersMask;
 import pl.lotto.domain.resultannouncer.dto.ResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerBatchResponseDto;
 import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultCacheExpiryDto;
 import pl.lotto.domain.resultchecker.ResultCheckerFacade;
 import pl.lotto.domain.resultchecker.dto.ResultDto;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static pl.lotto.domain.resultannouncer.MessageResponse.*;
 
@@ -18,7 +32,12 @@ public class ResultAnnouncerFacade {
 
     private final ResultCheckerFacade resultCheckerFacade;
     private final ResponseRepository responseRepository;
+    private final DrawAnnouncementRepository drawAnnouncementRepository;
     private final Clock clock;
+    private final int cacheRetentionDraws;
+    private final int maxBatchSize;
+    private final Duration publicationTimeout;
+    private final Set<Integer> announcedDraws = ConcurrentHashMap.newKeySet();
 
     @Cacheable(cacheNames = "results")
     public ResultAnnouncerResponseDto checkResult(String hash) {
@@ -43,13 +62,129 @@ public class ResultAnnouncerFacade {
         return new ResultAnnouncerResponseDto(responseDto, LOSE_MESSAGE.info);
     }
 
+    public ResultAnnouncerBatchResponseDto checkResults(List<String> hashes) {
+        return checkResults(hashes, Map.of());
+    }
+
+    /**
+     * Answers every hash in request order with the same messages as {@link #checkResult(String)}. Answers already
+     * known to the caller (e.g. from a cache) are reused; the rest are resolved with one query per repository.
+     */
+    public ResultAnnouncerBatchResponseDto checkResults(List<String> hashes, Map<String, ResultAnnouncerResponseDto> knownAnswers) {
+        requireWithinBatchLimit(hashes);
+        Set<String> unanswered = new LinkedHashSet<>(hashes);
+        unanswered.removeAll(knownAnswers.keySet());
+        Map<String, ResultAnnouncerResponseDto> answers = new HashMap<>(knownAnswers);
+        if (!unanswered.isEmpty()) {
+            answers.putAll(announce(unanswered));
+        }
+        return new ResultAnnouncerBatchResponseDto(hashes.stream()
+                .map(answers::get)
+                .toList());
+    }
+
+    /**
+     * Rejects batches over the configured limit; callers that do work of their own before {@link #checkResults(List, Map)}
+     * check first.
+     */
+    public void requireWithinBatchLimit(List<String> hashes) {
+        if (hashes.size() > maxBatchSize) {
+            throw new ResultBatchTooLargeException("Batch of " + hashes.size() + " tickets exceeds limit of " + maxBatchSize);
+        }
+    }
+
+    public ResultAnnouncerResponseDto unknownTicketAnswer() {
+        return new ResultAnnouncerResponseDto(null, HASH_DOES_NOT_EXIST_MESSAGE.info);
+    }
+
+    /**
+     * Final answers for freshly evaluated tickets, ready to be published before the draw is announced.
+     */
+    public List<ResultAnnouncerResponseDto> finalAnnouncementsOf(List<ResultDto> results) {
+        return results.stream()
+                .map(resultDto -> new ResultAnnouncerResponseDto(buildResponseDto(resultDto),
+                        (resultDto.isWinner() ? WIN_MESSAGE : LOSE_MESSAGE).info))
+                .toList();
+    }
+
+    /**
+     * Marks the draw's results as published; from now on its tickets get their final answers. Nothing is recorded
+     * before the draw time, so a draw published ahead of it keeps the {@code publicationTimeout} safeguard.
+     * Returns whether the draw was announced.
+     */
+    public boolean announceDraw(LocalDateTime drawDate) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!now.isAfter(drawDate)) {
+            return false;
+        }
+        int drawId = DrawId.of(drawDate);
+        drawAnnouncementRepository.save(new DrawAnnouncement(drawId, now));
+        announcedDraws.add(drawId);
+        return true;
+    }
+
+    /**
+     * Answers given before the announcement only hold until the draw is announced, or at the latest until
+     * {@code publicationTimeout} after the draw; once announced they are not cached at all. Final results never
+     * change, so they hold until the draw leaves retention. Unknown tickets are not cached at all.
+     */
+    public ResultCacheExpiryDto cacheExpiryOf(ResultAnnouncerResponseDto response) {
+        if (response.responseDto() == null) {
+            return new ResultCacheExpiryDto(clock.instant(), null);
+        }
+        LocalDateTime drawDate = response.responseDto().drawDate();
+        if (WAIT_MESSAGE.info.equals(response.message())) {
+            int drawId = DrawId.of(drawDate);
+            boolean announced = LocalDateTime.now(clock).isAfter(drawDate) && isAnnounced(drawId);
+            return new ResultCacheExpiryDto(announced ? clock.instant() : toInstant(drawDate.plus(publicationTimeout)), drawId);
+        }
+        return new ResultCacheExpiryDto(toInstant(drawDate.plusWeeks(cacheRetentionDraws)), null);
+    }
+
+    private Map<String, ResultAnnouncerResponseDto> announce(Collection<String> hashes) {
+        Map<String, ResultAnnouncerResponseDto> answers = new HashMap<>();
+        responseRepository.findAllById(hashes).forEach(response ->
+                answers.put(response.hash(), new ResultAnnouncerResponseDto(ResultMapper.mapToDto(response), ALREADY_CHECKED.info)));
+        List<String> unchecked = hashes.stream()
+                .filter(hash -> !answers.containsKey(hash))
+                .toList();
+        Map<String, ResultDto> results = resultCheckerFacade.findByTicketIds(unchecked);
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ResultResponse> responses = new ArrayList<>();
+        for (String hash : unchecked) {
+            ResultDto resultDto = results.get(hash);
+            if (resultDto == null) {
+                answers.put(hash, new ResultAnnouncerResponseDto(null, HASH_DOES_NOT_EXIST_MESSAGE.info));
+                continue;
+            }
+            ResponseDto responseDto = buildResponseDto(resultDto);
+            responses.add(buildResponse(responseDto, now));
+            answers.put(hash, new ResultAnnouncerResponseDto(responseDto, announcementMessage(resultDto).info));
+        }
+        if (!responses.isEmpty()) {
+            responseRepository.saveAllUnordered(responses);
+        }
+        return answers;
+    }
+
+    private MessageResponse announcementMessage(ResultDto resultDto) {
+        if (!isAfterResultAnnouncementTime(resultDto)) {
+            return WAIT_MESSAGE;
+        }
+        return resultDto.isWinner() ? WIN_MESSAGE : LOSE_MESSAGE;
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant();
+    }
+
     private static ResultResponse buildResponse(ResponseDto responseDto, LocalDateTime now) {
         return ResultResponse.builder()
                 .hash(responseDto.hash())
-                .numbers(responseDto.numbers())
-                .hitNumbers(responseDto.hitNumbers())
-                .wonNumbers(responseDto.wonNumbers())
-                .drawDate(responseDto.drawDate())
+                .numbers(NumbersMask.ofNullable(responseDto.numbers()))
+                .hitNumbers(NumbersMask.ofNullable(responseDto.hitNumbers()))
+                .wonNumbers(NumbersMask.ofNullable(responseDto.wonNumbers()))
+                .drawId(DrawId.of(responseDto.drawDate()))
                 .isWinner(responseDto.isWinner())
                 .createdDate(now)
                 .build();
@@ -66,8 +201,27 @@ public class ResultAnnouncerFacade {
                 .build();
     }
 
+    /**
+     * Results are announced after the draw once they have all been published, or once publication had
+     * {@code publicationTimeout} to finish, so a failed publication cannot hold results back for good.
+     */
     private boolean isAfterResultAnnouncementTime(ResultDto resultDto) {
         LocalDateTime announcementDateTime = resultDto.drawDate();
-        return LocalDateTime.now(clock).isAfter(announcementDateTime);
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!now.isAfter(announcementDateTime)) {
+            return false;
+        }
+        return isAnnounced(DrawId.of(announcementDateTime)) || now.isAfter(announcementDateTime.plus(publicationTimeout));
+    }
+
+    private boolean isAnnounced(int drawId) {
+        if (announcedDraws.contains(drawId)) {
+            return true;
+        }
+        if (drawAnnouncementRepository.existsById(drawId)) {
+            announcedDraws.add(drawId);
+            return true;
+        }
+        return false;
     }
 }
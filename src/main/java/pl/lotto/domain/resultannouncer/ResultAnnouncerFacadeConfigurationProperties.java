@@ -0,0 +1,9 @@
+package pl.lotto.domain.resultannouncer;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.result-announcer")
+@Builder
+public record ResultAnnouncerFacadeConfigurationProperties(int cacheRetentionDraws, int maxBatchSize, long publicationTimeoutSeconds) {
+}
@@ -0,0 +1,8 @@
+package pl.lotto.domain.resultannouncer;
+
+public class ResultBatchTooLargeException extends RuntimeException {
+
+    ResultBatchTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -1,15 +1,16 @@
 package pl.lotto.domain.resultannouncer;
 
+import pl.lotto.domain.common.DrawId;
 import pl.lotto.domain.resultannouncer.dto.ResponseDto;
 
 public class ResultMapper {
     static ResponseDto mapToDto(ResultResponse resultResponse) {
         return ResponseDto.builder()
-                .drawDate(resultResponse.drawDate())
+                .drawDate(DrawId.toDrawDate(resultResponse.drawId()))
                 .hash(resultResponse.hash())
-                .hitNumbers(resultResponse.hitNumbers())
-                .numbers(resultResponse.numbers())
-                .wonNumbers(resultResponse.wonNumbers())
+                .hitNumbers(resultResponse.hitNumbers().toSet())
+                .numbers(resultResponse.numbers().toSet())
+                .wonNumbers(resultResponse.wonNumbers().toSet())
                 .isWinner(resultResponse.isWinner())
                 .build();
     }
@@ -4,18 +4,18 @@ import lombok.Builder;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import pl.lotto.domain.common.NumbersMask;
 
 import java.time.LocalDateTime;
-import java.util.Set;
 
 @Builder
 @Document
 record ResultResponse(
         @Id String hash,
-        Set<Integer> numbers,
-        Set<Integer> wonNumbers,
-        Set<Integer> hitNumbers,
-        LocalDateTime drawDate,
+        NumbersMask numbers,
+        NumbersMask wonNumbers,
+        NumbersMask hitNumbers,
+        int drawId,
         boolean isWinner,
         @Indexed(expireAfterSeconds = 10)
         LocalDateTime createdDate) {
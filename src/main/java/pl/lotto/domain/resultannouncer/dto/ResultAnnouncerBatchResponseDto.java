@@ -0,0 +1,7 @@
+package pl.lotto.domain.resultannouncer.dto;
+
+import java.util.List;
+
+public record ResultAnnouncerBatchResponseDto(
+        List<ResultAnnouncerResponseDto> results) {
+}
@@ -0,0 +1,12 @@
+package pl.lotto.domain.resultannouncer.dto;
+
+import java.time.Instant;
+
+/**
+ * How long a {@link ResultAnnouncerResponseDto} may be cached. {@code preDrawId} is set for answers given before
+ * the draw was announced, so they can be evicted together once it is.
+ */
+public record ResultCacheExpiryDto(
+        Instant expiresAt,
+        Integer preDrawId) {
+}
@@ -0,0 +1,106 @@
+package pl.lotto.domain.resultchecker;
+
+import lombok.extern.log4j.Log4j2;
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates a draw's tickets chunk by chunk, on a dedicated fork/join pool when parallelism is above one.
+ * Closing the evaluator, which Spring does when the context shuts down, lets a running evaluation finish and
+ * stops the pool's workers.
+ */
+@Log4j2
+class DrawEvaluator implements AutoCloseable {
+
+    private static final int DEFAULT_CHUNK_SIZE = 10_000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final WinnersRetriever winnersRetriever;
+    private final PlayerRepository playerRepository;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    DrawEvaluator(WinnersRetriever winnersRetriever, PlayerRepository playerRepository, int parallelism, int chunkSize) {
+        this.winnersRetriever = winnersRetriever;
+        this.playerRepository = playerRepository;
+        this.pool = parallelism > 1 ? createPool(parallelism) : null;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+
+    List<Player> evaluate(List<Ticket> tickets, Set<Integer> winningNumbers) {
+        if (pool == null) {
+            return evaluateChunk(tickets, winningNumbers);
+        }
+        log.info("Evaluating {} tickets in chunks of {} with parallelism {}", tickets.size(), chunkSize, pool.getParallelism());
+        return pool.invoke(new EvaluateChunkTask(tickets, winningNumbers));
+    }
+
+    @Override
+    public void close() {
+        if (pool == null) {
+            return;
+        }
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Result checker pool did not finish evaluating within {}s, cancelling", SHUTDOWN_TIMEOUT_SECONDS);
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Player> evaluateChunk(List<Ticket> tickets, Set<Integer> winningNumbers) {
+        List<Player> players = winnersRetriever.retrieveWinners(tickets, winningNumbers);
+        BulkWriteReport report = playerRepository.saveAllUnordered(players);
+        if (report.hasFailures()) {
+            throw new IllegalStateException("Saving evaluated players failed for " + report.failed() + " of " + players.size() + " tickets");
+        }
+        return players;
+    }
+
+    private static ForkJoinPool createPool(int parallelism) {
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("result-checker-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    private class EvaluateChunkTask extends RecursiveTask<List<Player>> {
+
+        private final List<Ticket> tickets;
+        private final Set<Integer> winningNumbers;
+
+        EvaluateChunkTask(List<Ticket> tickets, Set<Integer> winningNumbers) {
+            this.tickets = tickets;
+            this.winningNumbers = winningNumbers;
+        }
+
+        @Override
+        protected List<Player> compute() {
+            if (tickets.size() <= chunkSize) {
+                return evaluateChunk(tickets, winningNumbers);
+            }
+            int middle = tickets.size() / 2;
+            EvaluateChunkTask left = new EvaluateChunkTask(tickets.subList(0, middle), winningNumbers);
+            EvaluateChunkTask right = new EvaluateChunkTask(tickets.subList(middle, tickets.size()), winningNumbers);
+            left.fork();
+            List<Player> rightPlayers = right.compute();
+            List<Player> leftPlayers = left.join();
+            List<Player> players = new ArrayList<>(leftPlayers.size() + rightPlayers.size());
+            players.addAll(leftPlayers);
+            players.addAll(rightPlayers);
+            return players;
+        }
+    }
+}
@@ -1,18 +1,19 @@
 package pl.lotto.domain.resultchecker;
 
-import java.time.LocalDateTime;
-import java.util.Set;
 import lombok.Builder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import pl.lotto.domain.common.NumbersMask;
 
 @Builder
+@Document
 record Player(
         @Id
         String hash,
-        Set<Integer> numbers,
-        Set<Integer> hitNumbers,
-        LocalDateTime drawDate,
+        NumbersMask numbers,
+        NumbersMask hitNumbers,
+        int drawId,
         boolean isWinner,
-        Set<Integer> wonNumbers
+        NumbersMask wonNumbers
 ) {
 }
@@ -0,0 +1,10 @@
+package pl.lotto.domain.resultchecker;
+
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.util.Collection;
+
+public interface PlayerBulkRepository {
+
+    BulkWriteReport saveAllUnordered(Collection<Player> players);
+}
@@ -0,0 +1,20 @@
+package pl.lotto.domain.resultchecker;
+
+import lombok.AllArgsConstructor;
+import pl.lotto.domain.common.BulkWriteReport;
+import pl.lotto.infrastructure.mongo.MongoBulkInserter;
+import pl.lotto.infrastructure.mongo.MongoDrawPartitions;
+
+import java.util.Collection;
+
+@AllArgsConstructor
+class PlayerBulkRepositoryImpl implements PlayerBulkRepository {
+
+    private final MongoBulkInserter mongoBulkInserter;
+    private final MongoDrawPartitions drawPartitions;
+
+    @Override
+    public BulkWriteReport saveAllUnordered(Collection<Player> players) {
+        return mongoBulkInserter.upsertUnorderedByDraw(players, Player.class, Player::hash, Player::drawId, drawPartitions);
+    }
+}
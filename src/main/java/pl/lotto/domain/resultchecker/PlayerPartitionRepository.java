@@ -0,0 +1,12 @@
+package pl.lotto.domain.resultchecker;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface PlayerPartitionRepository {
+
+    Optional<Player> findById(String hash);
+
+    Map<String, Player> findAllByHashes(Collection<String> hashes);
+}
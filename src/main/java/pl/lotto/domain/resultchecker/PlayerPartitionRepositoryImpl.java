@@ -0,0 +1,32 @@
+package pl.lotto.domain.resultchecker;
+
+import lombok.AllArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import pl.lotto.infrastructure.mongo.MongoDrawPartitions;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@AllArgsConstructor
+class PlayerPartitionRepositoryImpl implements PlayerPartitionRepository {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoDrawPartitions drawPartitions;
+
+    @Override
+    public Optional<Player> findById(String hash) {
+        return drawPartitions.findByTimeOrderedId(Player.class, hash,
+                collection -> mongoTemplate.findById(hash, Player.class, collection));
+    }
+
+    @Override
+    public Map<String, Player> findAllByHashes(Collection<String> hashes) {
+        return drawPartitions.findAllByTimeOrderedIds(Player.class, hashes,
+                (collection, ids) -> mongoTemplate.find(query(where("_id").in(ids)), Player.class, collection),
+                Player::hash);
+    }
+}
@@ -3,11 +3,10 @@ package pl.lotto.domain.resultchecker;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PlayerRepository extends MongoRepository<Player, String> {
+public interface PlayerRepository extends MongoRepository<Player, String>, PlayerBulkRepository, PlayerPartitionRepository {
 
     Optional<Player> findById(String hash);
 }
@@ -1,8 +1,15 @@
 package pl.lotto.domain.resultchecker;
 
+/**
+ * Thrown for every lookup of an unknown ticket, scrapers included, so no stack trace is captured.
+ */
 public class PlayerResultNotFoundException extends RuntimeException {
 
     PlayerResultNotFoundException(String message) {
-        super(String.format(message));
+        super(message, null, false, false);
+    }
+
+    public static PlayerResultNotFoundException forTicketId(String ticketId) {
+        return new PlayerResultNotFoundException("Not found for id: " + ticketId);
     }
 }
@@ -8,9 +8,31 @@ import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
 @Configuration
 public class ResultCheckerConfiguration {
 
+    private static final int DEFAULT_BATCH_SIZE = 50_000;
+
+    @Bean
+    DrawEvaluator drawEvaluator(PlayerRepository playerRepository, ResultCheckerFacadeConfigurationProperties properties) {
+        return new DrawEvaluator(new WinnersRetriever(), playerRepository, properties.parallelism(), properties.chunkSize());
+    }
+
     @Bean
-    ResultCheckerFacade resultCheckerFacade(WinningNumbersGeneratorFacade generatorFacade, NumberReceiverFacade receiverFacade, PlayerRepository playerRepository) {
-        WinnersRetriever winnerGenerator = new WinnersRetriever();
-        return new ResultCheckerFacade(generatorFacade, receiverFacade, playerRepository, winnerGenerator);
+    ResultCheckerFacade resultCheckerFacade(WinningNumbersGeneratorFacade generatorFacade,
+                                            NumberReceiverFacade receiverFacade,
+                                            PlayerRepository playerRepository,
+                                            DrawEvaluator drawEvaluator,
+                                            ResultCheckerFacadeConfigurationProperties properties) {
+        int batchSize = properties.batchSize() > 0 ? properties.batchSize() : DEFAULT_BATCH_SIZE;
+        return new ResultCheckerFacade(generatorFacade, receiverFacade, playerRepository, drawEvaluator, batchSize);
+    }
+
+    ResultCheckerFacade createForTest(WinningNumbersGeneratorFacade generatorFacade,
+                                      NumberReceiverFacade receiverFacade,
+                                      PlayerRepository playerRepository) {
+        ResultCheckerFacadeConfigurationProperties properties = ResultCheckerFacadeConfigurationProperties.builder()
+                .parallelism(1)
+                .chunkSize(1000)
+                .batchSize(1000)
+                .build();
+        return resultCheckerFacade(generatorFacade, receiverFacade, playerRepository, drawEvaluator(playerRepository, properties), properties);
     }
 }
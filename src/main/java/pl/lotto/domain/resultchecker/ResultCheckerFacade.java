@@ -1,15 +1,26 @@
 package pl.lotto.domain.resultchecker;
 
 import lombok.AllArgsConstructor;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.DrawTicketId;
 import pl.lotto.domain.numbergenerator.WinningNumbersGeneratorFacade;
 import pl.lotto.domain.numbergenerator.dto.WinningNumbersDto;
 import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
 import pl.lotto.domain.numberreceiver.dto.TicketDto;
+import pl.lotto.domain.resultchecker.dto.DrawResultsSummaryDto;
 import pl.lotto.domain.resultchecker.dto.PlayersDto;
 import pl.lotto.domain.resultchecker.dto.ResultDto;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import static pl.lotto.domain.resultchecker.ResultCheckerMapper.mapPlayersToResults;
 
@@ -19,10 +30,12 @@ public class ResultCheckerFacade {
     WinningNumbersGeneratorFacade winningNumbersGeneratorFacade;
     NumberReceiverFacade numberReceiverFacade;
     PlayerRepository playerRepository;
-    WinnersRetriever winnerGenerator;
+    DrawEvaluator drawEvaluator;
+    int batchSize;
 
 
     public PlayersDto generateResults() {
+        numberReceiverFacade.flushPendingTickets();
         List<TicketDto> allTicketsByDate = numberReceiverFacade.retrieveAllTicketsByNextDrawDate();
         List<Ticket> tickets = ResultCheckerMapper.mapFromTicketDto(allTicketsByDate);
         WinningNumbersDto winningNumbersDto = winningNumbersGeneratorFacade.generateWinningNumbers();
@@ -32,24 +45,85 @@ public class ResultCheckerFacade {
                     .message("Winners failed to retrieve")
                     .build();
         }
-        List<Player> players = winnerGenerator.retrieveWinners(tickets, winningNumbers);
-        playerRepository.saveAll(players);
+        List<Player> players = drawEvaluator.evaluate(tickets, winningNumbers);
         return PlayersDto.builder()
                 .results(mapPlayersToResults(players))
                 .message("Winners succeeded to retrieve")
                 .build();
     }
 
+    public DrawResultsSummaryDto generateResultsSummary() {
+        return generateResultsSummary(results -> {
+        });
+    }
+
+    /**
+     * Same as {@link #generateResultsSummary()}, handing every evaluated batch to {@code evaluatedResults} once it is stored.
+     */
+    public DrawResultsSummaryDto generateResultsSummary(Consumer<List<ResultDto>> evaluatedResults) {
+        LocalDateTime drawDate = numberReceiverFacade.retrieveNextDrawDate();
+        numberReceiverFacade.flushPendingTickets();
+        WinningNumbersDto winningNumbersDto = winningNumbersGeneratorFacade.generateWinningNumbers();
+        Set<Integer> winningNumbers = winningNumbersDto.getWinningNumbers();
+        if (winningNumbers == null || winningNumbers.isEmpty()) {
+            return DrawResultsSummaryDto.builder()
+                    .drawDate(drawDate)
+                    .message("Winners failed to retrieve")
+                    .build();
+        }
+        AtomicLong winners = new AtomicLong();
+        long evaluatedTickets = numberReceiverFacade.forEachTicketBatchByDrawDate(drawDate, batchSize, batch -> {
+            List<Player> players = drawEvaluator.evaluate(ResultCheckerMapper.mapFromTicketDto(batch), winningNumbers);
+            winners.addAndGet(players.stream().filter(Player::isWinner).count());
+            evaluatedResults.accept(mapPlayersToResults(players));
+        });
+        return DrawResultsSummaryDto.builder()
+                .drawDate(drawDate)
+                .evaluatedTickets(evaluatedTickets)
+                .winners(winners.get())
+                .message("Winners succeeded to retrieve")
+                .build();
+    }
+
     public ResultDto findByTicketId(String ticketId) {
         Player player = playerRepository.findById(ticketId)
-                .orElseThrow(() -> new PlayerResultNotFoundException("Not found for id: " + ticketId));
+                .or(() -> findSingleDrawPlayer(ticketId))
+                .orElseThrow(() -> PlayerResultNotFoundException.forTicketId(ticketId));
+        return mapToResultDto(ticketId, player);
+    }
+
+    /**
+     * Looks up all ticket ids with a single query, including the plain hashes behind {@link DrawTicketId}s.
+     * Ids without a result are absent from the returned map.
+     */
+    public Map<String, ResultDto> findByTicketIds(Collection<String> ticketIds) {
+        Set<String> hashes = new LinkedHashSet<>(ticketIds);
+        ticketIds.forEach(ticketId -> DrawTicketId.parse(ticketId).ifPresent(id -> hashes.add(id.hash())));
+        Map<String, Player> players = playerRepository.findAllByHashes(hashes);
+        Map<String, ResultDto> results = new HashMap<>();
+        for (String ticketId : ticketIds) {
+            Optional.ofNullable(players.get(ticketId))
+                    .or(() -> DrawTicketId.parse(ticketId).flatMap(id -> Optional.ofNullable(players.get(id.hash()))
+                            .filter(player -> player.drawId() == id.drawId())))
+                    .ifPresent(player -> results.put(ticketId, mapToResultDto(ticketId, player)));
+        }
+        return results;
+    }
+
+    private static ResultDto mapToResultDto(String ticketId, Player player) {
         return ResultDto.builder()
                 .hash(ticketId)
-                .numbers(player.numbers())
-                .hitNumbers(player.hitNumbers())
-                .drawDate(player.drawDate())
-                .wonNumbers(player.wonNumbers())
+                .numbers(player.numbers().toSet())
+                .hitNumbers(player.hitNumbers().toSet())
+                .drawDate(DrawId.toDrawDate(player.drawId()))
+                .wonNumbers(player.wonNumbers().toSet())
                 .isWinner(player.isWinner())
                 .build();
     }
+
+    private Optional<Player> findSingleDrawPlayer(String drawTicketId) {
+        return DrawTicketId.parse(drawTicketId)
+                .flatMap(id -> playerRepository.findById(id.hash())
+                        .filter(player -> player.drawId() == id.drawId()));
+    }
 }
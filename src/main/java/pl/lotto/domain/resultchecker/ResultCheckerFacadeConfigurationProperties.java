@@ -0,0 +1,9 @@
+package pl.lotto.domain.resultchecker;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.result-checker")
+@Builder
+public record ResultCheckerFacadeConfigurationProperties(int parallelism, int chunkSize, int batchSize) {
+}
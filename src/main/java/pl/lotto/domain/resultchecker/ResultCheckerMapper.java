@@ -1,5 +1,6 @@
 package pl.lotto.domain.resultchecker;
 
+import pl.lotto.domain.common.DrawId;
 import pl.lotto.domain.numberreceiver.dto.TicketDto;
 import pl.lotto.domain.resultannouncer.dto.ResponseDto;
 import pl.lotto.domain.resultchecker.dto.ResultDto;
@@ -13,11 +14,11 @@ class ResultCheckerMapper {
         return players.stream()
                 .map(player -> ResultDto.builder()
                         .hash(player.hash())
-                        .numbers(player.numbers())
-                        .hitNumbers(player.hitNumbers())
-                        .drawDate(player.drawDate())
+                        .numbers(player.numbers().toSet())
+                        .hitNumbers(player.hitNumbers().toSet())
+                        .drawDate(DrawId.toDrawDate(player.drawId()))
                         .isWinner(player.isWinner())
-                        .wonNumbers(player.wonNumbers())
+                        .wonNumbers(player.wonNumbers().toSet())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -1,45 +1,41 @@
 package pl.lotto.domain.resultchecker;
 
 import lombok.AllArgsConstructor;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.NumbersMask;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @AllArgsConstructor
 class WinnersRetriever {
     private final static int NUMBERS_WHEN_PLAYER_WON = 3;
 
     List<Player> retrieveWinners(List<Ticket> allTicketsByDate, Set<Integer> winningNumbers) {
+        NumbersMask winningMask = NumbersMask.of(winningNumbers);
         return allTicketsByDate.stream()
                 .map(ticket -> {
-                    Set<Integer> hitNumbers = calculateHits(winningNumbers, ticket);
-                    return buildResult(ticket, hitNumbers, winningNumbers);
+                    NumbersMask ticketMask = NumbersMask.of(ticket.numbers());
+                    return buildResult(ticket, ticketMask, ticketMask.and(winningMask), winningMask);
                 })
                 .toList();
     }
 
-    private Set<Integer> calculateHits(Set<Integer> winningNumbers, Ticket ticket) {
-        return ticket.numbers().stream()
-                .filter(winningNumbers::contains)
-                .collect(Collectors.toSet());
-    }
-
-    private Player buildResult(Ticket ticket, Set<Integer> hitNumbers, Set<Integer> winningNumbers) {
+    private Player buildResult(Ticket ticket, NumbersMask ticketMask, NumbersMask hitMask, NumbersMask winningMask) {
         Player.PlayerBuilder builder = Player.builder();
-        if (isWinner(hitNumbers)) {
+        if (isWinner(hitMask)) {
             builder.isWinner(true);
         }
         return builder
                 .hash(ticket.hash())
-                .numbers(ticket.numbers())
-                .hitNumbers(hitNumbers)
-                .drawDate(ticket.drawDate())
-                .wonNumbers(winningNumbers)
+                .numbers(ticketMask)
+                .hitNumbers(hitMask)
+                .drawId(DrawId.of(ticket.drawDate()))
+                .wonNumbers(winningMask)
                 .build();
     }
 
-    private boolean isWinner(Set<Integer> hitNumbers) {
-        return hitNumbers.size() >= NUMBERS_WHEN_PLAYER_WON;
+    private boolean isWinner(NumbersMask hitMask) {
+        return hitMask.count() >= NUMBERS_WHEN_PLAYER_WON;
     }
 }
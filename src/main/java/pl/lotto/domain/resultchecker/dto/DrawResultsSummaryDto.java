@@ -0,0 +1,14 @@
+package pl.lotto.domain.resultchecker.dto;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record DrawResultsSummaryDto(
+        LocalDateTime drawDate,
+        long evaluatedTickets,
+        long winners,
+        String message
+) {
+}
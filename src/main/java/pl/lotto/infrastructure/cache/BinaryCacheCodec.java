@@ -0,0 +1,16 @@
+package pl.lotto.infrastructure.cache;
+
+/**
+ * Binary encoding of one value type stored in Redis. Every encoded value starts with {@link #typeId()}, which must
+ * be below {@code 0x20} so it never collides with the first byte of a JSON document.
+ */
+public interface BinaryCacheCodec {
+
+    byte typeId();
+
+    boolean canEncode(Object value);
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+}
@@ -0,0 +1,18 @@
+package pl.lotto.infrastructure.cache;
+
+import java.time.Duration;
+
+/**
+ * Per-entry expiry of one named cache. A zero or negative time to live means the value is not cached.
+ * Entries sharing a region can be evicted together through {@link TwoTierCacheManager#evictRegion(String, String)}.
+ */
+public interface CacheEntryExpiry {
+
+    String cacheName();
+
+    Duration timeToLive(Object key, Object value);
+
+    default String region(Object key, Object value) {
+        return null;
+    }
+}
@@ -0,0 +1,151 @@
+package pl.lotto.infrastructure.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * L2 tier of one {@link TwoTierCache} stored under {@code <cacheName>::<key>}, each entry with its own time to live.
+ * Keys of a region are collected in a Redis set so the whole region can be deleted at once. Multi-key reads are a
+ * single MGET and writes are pipelined; every round trip is timed as {@code redis.command.latency{cache,command}}.
+ */
+class RedisCacheTier {
+
+    private static final String SEPARATOR = "::";
+    private static final String REGION = "region";
+    private static final int PIPELINE_SIZE = 1000;
+    private static final String LATENCY = "redis.command.latency";
+
+    private final String cacheName;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Timer getLatency;
+    private final Timer multiGetLatency;
+    private final Timer pipelineLatency;
+    private final Timer deleteLatency;
+    private final Timer regionMembersLatency;
+    private final Timer keysLatency;
+    private final DistributionSummary pipelineSize;
+
+    RedisCacheTier(String cacheName, RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.cacheName = cacheName;
+        this.redisTemplate = redisTemplate;
+        this.getLatency = commandLatency(meterRegistry, "get");
+        this.multiGetLatency = commandLatency(meterRegistry, "mget");
+        this.pipelineLatency = commandLatency(meterRegistry, "pipeline");
+        this.deleteLatency = commandLatency(meterRegistry, "del");
+        this.regionMembersLatency = commandLatency(meterRegistry, "smembers");
+        this.keysLatency = commandLatency(meterRegistry, "keys");
+        this.pipelineSize = DistributionSummary.builder("redis.pipeline.size")
+                .tags("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    Object get(Object key) {
+        return timed(getLatency, () -> redisTemplate.opsForValue().get(entryKey(key)));
+    }
+
+    List<Object> multiGet(List<?> keys) {
+        List<Object> values = timed(multiGetLatency, () -> redisTemplate.opsForValue().multiGet(keys.stream().map(this::entryKey).toList()));
+        return values != null ? values : keys.stream().map(key -> null).toList();
+    }
+
+    void put(Object key, Object storeValue, Duration timeToLive, String region) {
+        putAll(List.of(new Entry(key, storeValue, timeToLive, region)));
+    }
+
+    /**
+     * Writes all entries with one pipelined round trip per {@value #PIPELINE_SIZE} entries.
+     */
+    void putAll(List<Entry> entries) {
+        for (int from = 0; from < entries.size(); from += PIPELINE_SIZE) {
+            List<Entry> pipeline = entries.subList(from, Math.min(from + PIPELINE_SIZE, entries.size()));
+            pipelineSize.record(pipeline.size());
+            timed(pipelineLatency, () -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                    for (Entry entry : pipeline) {
+                        String entryKey = entryKey(entry.key());
+                        redisOperations.opsForValue().set(entryKey, entry.storeValue(), entry.timeToLive());
+                        if (entry.region() != null) {
+                            String regionKey = regionKey(entry.region());
+                            redisOperations.opsForSet().add(regionKey, entryKey);
+                            redisOperations.expire(regionKey, entry.timeToLive());
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+    }
+
+    /**
+     * Keys of the entries placed in the region, without the cache name prefix.
+     */
+    List<String> regionKeys(String region) {
+        Set<Object> members = timed(regionMembersLatency, () -> redisTemplate.opsForSet().members(regionKey(region)));
+        if (members == null) {
+            return List.of();
+        }
+        String prefix = cacheName + SEPARATOR;
+        return members.stream()
+                .map(Object::toString)
+                .filter(member -> member.startsWith(prefix))
+                .map(member -> member.substring(prefix.length()))
+                .toList();
+    }
+
+    void evict(Object key) {
+        timed(deleteLatency, () -> redisTemplate.delete(entryKey(key)));
+    }
+
+    void evictRegion(String region) {
+        String regionKey = regionKey(region);
+        Set<Object> members = timed(regionMembersLatency, () -> redisTemplate.opsForSet().members(regionKey));
+        List<String> keys = new ArrayList<>();
+        keys.add(regionKey);
+        if (members != null) {
+            members.forEach(member -> keys.add(member.toString()));
+        }
+        timed(deleteLatency, () -> redisTemplate.delete(keys));
+    }
+
+    void clear() {
+        Set<String> keys = timed(keysLatency, () -> redisTemplate.keys(cacheName + SEPARATOR + "*"));
+        if (keys != null && !keys.isEmpty()) {
+            timed(deleteLatency, () -> redisTemplate.delete(keys));
+        }
+    }
+
+    private Timer commandLatency(MeterRegistry meterRegistry, String command) {
+        return Timer.builder(LATENCY)
+                .tags("cache", cacheName, "command", command)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static <T> T timed(Timer timer, Supplier<T> command) {
+        return timer.record(command);
+    }
+
+    private String entryKey(Object key) {
+        return cacheName + SEPARATOR + key;
+    }
+
+    private String regionKey(String region) {
+        return cacheName + SEPARATOR + REGION + SEPARATOR + region;
+    }
+
+    record Entry(Object key, Object storeValue, Duration timeToLive, String region) {
+    }
+}
@@ -0,0 +1,16 @@
+package pl.lotto.infrastructure.cache;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.redis.client")
+@Builder
+public record RedisClientConfigurationProperties(
+        int maxTotal,
+        int maxIdle,
+        int minIdle,
+        long maxWaitMillis,
+        long connectTimeoutMillis,
+        long readTimeoutMillis,
+        boolean writeBinaryValues) {
+}
@@ -1,36 +1,99 @@
 package pl.lotto.infrastructure.cache;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
-@EnableCaching
 @ConditionalOnProperty(value = "spring.cache.type", havingValue = "redis")
+@Log4j2
 public class RedisConfiguration {
+
+    private static final int DEFAULT_MAX_TOTAL = 64;
+    private static final int DEFAULT_MIN_IDLE = 8;
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 200;
+    private static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final long DEFAULT_READ_TIMEOUT_MILLIS = 500;
+    private static final String POOL_JMX_NAME_PREFIX = "redis";
+
     @Bean
     public JedisConnectionFactory redisConnectionFactory(@Value("${spring.redis.host}") String hostname,
-                                                         @Value("${spring.redis.port}") int port) {
+                                                         @Value("${spring.redis.port}") int port,
+                                                         RedisClientConfigurationProperties properties) {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration(hostname, port);
-        return new JedisConnectionFactory(redisStandaloneConfiguration);
+        JedisPoolConfig poolConfig = poolConfig(properties);
+        JedisClientConfiguration clientConfiguration = JedisClientConfiguration.builder()
+                .connectTimeout(Duration.ofMillis(positiveOrDefault(properties.connectTimeoutMillis(), DEFAULT_CONNECT_TIMEOUT_MILLIS)))
+                .readTimeout(Duration.ofMillis(positiveOrDefault(properties.readTimeoutMillis(), DEFAULT_READ_TIMEOUT_MILLIS)))
+                .usePooling()
+                .poolConfig(poolConfig)
+                .build();
+        log.info("Redis pool of at most {} connections ({} kept idle), waiting at most {}ms for a connection",
+                poolConfig.getMaxTotal(), poolConfig.getMinIdle(), poolConfig.getMaxWaitDuration().toMillis());
+        return new JedisConnectionFactory(redisStandaloneConfiguration, clientConfiguration);
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                       List<BinaryCacheCodec> binaryCacheCodecs,
+                                                       RedisClientConfigurationProperties properties) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setValueSerializer(new VersionedRedisSerializer(jsonSerializer(), binaryCacheCodecs, properties.writeBinaryValues()));
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
         return redisTemplate;
     }
+
+    @Bean
+    CommonsObjectPool2Metrics redisPoolMetrics() {
+        return new CommonsObjectPool2Metrics();
+    }
+
+    /**
+     * JSON for values without a binary codec. Unlike the serializer's default mapper it handles java.time values and
+     * records: type info is written for every value, since records are final and would otherwise come back as maps.
+     */
+    static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .activateDefaultTyping(BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(),
+                        ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(objectMapper, null);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    static JedisPoolConfig poolConfig(RedisClientConfigurationProperties properties) {
+        int maxTotal = (int) positiveOrDefault(properties.maxTotal(), DEFAULT_MAX_TOTAL);
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(maxTotal);
+        poolConfig.setMaxIdle((int) positiveOrDefault(properties.maxIdle(), maxTotal));
+        poolConfig.setMinIdle((int) positiveOrDefault(properties.minIdle(), Math.min(DEFAULT_MIN_IDLE, maxTotal)));
+        poolConfig.setMaxWait(Duration.ofMillis(positiveOrDefault(properties.maxWaitMillis(), DEFAULT_MAX_WAIT_MILLIS)));
+        poolConfig.setBlockWhenExhausted(true);
+        poolConfig.setJmxNamePrefix(POOL_JMX_NAME_PREFIX);
+        return poolConfig;
+    }
+
+    private static long positiveOrDefault(long value, long defaultValue) {
+        return value > 0 ? value : defaultValue;
+    }
 }
@@ -0,0 +1,279 @@
+package pl.lotto.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spring cache reading an in-process Caffeine L1 first and falling through to an optional shared L2 (Redis).
+ * L2 hits are copied into L1; writes and evictions go to both tiers. Each entry expires as its {@link CacheEntryExpiry}
+ * says, and entries placed in a region are remembered so {@link #evictRegion(String)} can drop them in bulk, until L1
+ * evicts or expires them.
+ */
+class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final String GETS = "cache.gets";
+    private static final String LATENCY = "cache.tier.latency";
+    private static final int PROMOTION_BATCH_SIZE = 1000;
+
+    private final String name;
+    private final Cache<Object, Object> l1;
+    private final RedisCacheTier l2;
+    private final CacheEntryExpiry entryExpiry;
+    private final Map<String, Set<Object>> regionKeys = new ConcurrentHashMap<>();
+    private final Timer l1Latency;
+    private final Timer l2Latency;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    TwoTierCache(String name, Caffeine<Object, Object> l1, RedisCacheTier l2, CacheEntryExpiry entryExpiry, MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.l1 = l1.removalListener(this::untrackRegion).build();
+        this.l2 = l2;
+        this.entryExpiry = entryExpiry;
+        this.l1Latency = Timer.builder(LATENCY).tags("cache", name, "tier", "l1").register(meterRegistry);
+        this.l2Latency = Timer.builder(LATENCY).tags("cache", name, "tier", "l2").register(meterRegistry);
+        this.l2Hits = Counter.builder(GETS).tags("cache", name, "tier", "l2", "result", "hit").register(meterRegistry);
+        this.l2Misses = Counter.builder(GETS).tags("cache", name, "tier", "l2", "result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<Object, Object> getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        long start = System.nanoTime();
+        Object value = l1.getIfPresent(key);
+        l1Latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (value != null || l2 == null) {
+            return value;
+        }
+        value = lookupL2(key);
+        if (value != null) {
+            l1.put(key, value);
+            trackRegion(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object storeValue = l1.get(key, missingKey -> {
+            Object value = l2 == null ? null : lookupL2(missingKey);
+            if (value != null) {
+                return value;
+            }
+            try {
+                Object loaded = toStoreValue(valueLoader.call());
+                putL2(missingKey, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(missingKey, valueLoader, e);
+            }
+        });
+        trackRegion(key, storeValue);
+        return (T) fromStoreValue(storeValue);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        l1.put(key, storeValue);
+        trackRegion(key, storeValue);
+        putL2(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l1.invalidate(key);
+        if (l2 != null) {
+            l2.evict(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        l1.invalidateAll();
+        regionKeys.clear();
+        if (l2 != null) {
+            l2.clear();
+        }
+    }
+
+    /**
+     * Multi-get: one L1 bulk read, then a single L2 round trip for the keys L1 did not have. Absent keys are not in the map.
+     */
+    Map<Object, Object> getAllPresent(Collection<?> keys) {
+        long start = System.nanoTime();
+        Map<Object, Object> storeValues = new HashMap<>(l1.getAllPresent(keys));
+        l1Latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (l2 != null && storeValues.size() < keys.size()) {
+            List<Object> l1Misses = new ArrayList<>();
+            keys.stream().filter(key -> !storeValues.containsKey(key)).distinct().forEach(l1Misses::add);
+            start = System.nanoTime();
+            List<Object> values = l2.multiGet(l1Misses);
+            l2Latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            for (int i = 0; i < l1Misses.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                    l2Misses.increment();
+                    continue;
+                }
+                l2Hits.increment();
+                Object key = l1Misses.get(i);
+                l1.put(key, value);
+                trackRegion(key, value);
+                storeValues.put(key, value);
+            }
+        }
+        Map<Object, Object> values = new HashMap<>();
+        storeValues.forEach((key, storeValue) -> values.put(key, fromStoreValue(storeValue)));
+        return values;
+    }
+
+    /**
+     * Multi-set: entries go to L1 and, pipelined, to L2. Returns the number of entries written to L2.
+     */
+    int putAll(Map<?, ?> values) {
+        values.forEach((key, value) -> {
+            Object storeValue = toStoreValue(value);
+            l1.put(key, storeValue);
+            trackRegion(key, storeValue);
+        });
+        return putAllShared(values);
+    }
+
+    /**
+     * Publishes entries to the shared L2 only, pipelined, leaving every node's L1 to pick them up on first read.
+     * Returns the number of entries written.
+     */
+    int putAllShared(Map<?, ?> values) {
+        if (l2 == null) {
+            return 0;
+        }
+        List<RedisCacheTier.Entry> entries = new ArrayList<>(values.size());
+        values.forEach((key, value) -> {
+            Duration timeToLive = entryExpiry.timeToLive(key, value);
+            if (!timeToLive.isNegative() && !timeToLive.isZero()) {
+                entries.add(new RedisCacheTier.Entry(key, toStoreValue(value), timeToLive, entryExpiry.region(key, value)));
+            }
+        });
+        l2.putAll(entries);
+        return entries.size();
+    }
+
+    /**
+     * Copies the region's shared entries into {@code target}'s shared tier, {@value #PROMOTION_BATCH_SIZE} keys per
+     * round trip, then drops the region here. Returns the number of entries written to {@code target}.
+     */
+    int promoteRegion(String region, TwoTierCache target) {
+        if (l2 == null) {
+            return 0;
+        }
+        List<String> keys = l2.regionKeys(region);
+        int promoted = 0;
+        for (int from = 0; from < keys.size(); from += PROMOTION_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + PROMOTION_BATCH_SIZE, keys.size()));
+            List<Object> values = l2.multiGet(batch);
+            Map<Object, Object> entries = new HashMap<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                if (values.get(i) != null) {
+                    entries.put(batch.get(i), fromStoreValue(values.get(i)));
+                }
+            }
+            promoted += target.putAllShared(entries);
+        }
+        evictRegion(region);
+        return promoted;
+    }
+
+    void evictRegion(String region) {
+        Set<Object> keys = regionKeys.remove(region);
+        if (keys != null) {
+            l1.invalidateAll(keys);
+        }
+        if (l2 != null) {
+            l2.evictRegion(region);
+        }
+    }
+
+    private void putL2(Object key, Object storeValue) {
+        if (l2 == null) {
+            return;
+        }
+        Object value = fromStoreValue(storeValue);
+        Duration timeToLive = entryExpiry.timeToLive(key, value);
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            return;
+        }
+        l2.put(key, storeValue, timeToLive, entryExpiry.region(key, value));
+    }
+
+    private void trackRegion(Object key, Object storeValue) {
+        String region = entryExpiry.region(key, fromStoreValue(storeValue));
+        if (region != null) {
+            regionKeys.compute(region, (trackedRegion, keys) -> {
+                Set<Object> regionMembers = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                regionMembers.add(key);
+                return regionMembers;
+            });
+        }
+    }
+
+    /**
+     * Forgets an entry L1 evicted, expired or replaced, unless L1 already holds a newer value in the same region.
+     */
+    private void untrackRegion(Object key, Object storeValue, RemovalCause cause) {
+        if (key == null || storeValue == null) {
+            return;
+        }
+        String region = entryExpiry.region(key, fromStoreValue(storeValue));
+        if (region == null) {
+            return;
+        }
+        Object current = l1.asMap().get(key);
+        if (current != null && region.equals(entryExpiry.region(key, fromStoreValue(current)))) {
+            return;
+        }
+        regionKeys.computeIfPresent(region, (trackedRegion, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private Object lookupL2(Object key) {
+        long start = System.nanoTime();
+        Object value = l2.get(key);
+        l2Latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (value == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        return value;
+    }
+}
@@ -0,0 +1,46 @@
+package pl.lotto.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableCaching
+@Log4j2
+public class TwoTierCacheConfiguration {
+
+    private static final String REDIS_CACHE_TYPE = "redis";
+    private static final String NO_CACHE_TYPE = "none";
+    private static final long DEFAULT_L1_MAXIMUM_SIZE = 10_000;
+    private static final long DEFAULT_L1_EXPIRE_AFTER_WRITE_SECONDS = 60;
+
+    @Bean
+    TwoTierCacheManager cacheManager(TwoTierCacheConfigurationProperties properties, MeterRegistry meterRegistry,
+                                     ObjectProvider<RedisTemplate<String, Object>> redisTemplate,
+                                     ObjectProvider<CacheEntryExpiry> entryExpiries,
+                                     @Value("${spring.cache.type:simple}") String cacheType,
+                                     @Value("${spring.cache.redis.time-to-live:PT60M}") Duration defaultTimeToLive) {
+        long l1MaximumSize = properties.maximumSize() > 0 ? properties.maximumSize() : DEFAULT_L1_MAXIMUM_SIZE;
+        long l1ExpireAfterWriteSeconds = properties.expireAfterWriteSeconds() > 0
+                ? properties.expireAfterWriteSeconds() : DEFAULT_L1_EXPIRE_AFTER_WRITE_SECONDS;
+        if (NO_CACHE_TYPE.equalsIgnoreCase(cacheType)) {
+            log.info("Result caches disabled by spring.cache.type={}", cacheType);
+            return new TwoTierCacheManager(false, null, meterRegistry, l1MaximumSize, Duration.ofSeconds(l1ExpireAfterWriteSeconds),
+                    defaultTimeToLive, List.of());
+        }
+        RedisTemplate<String, Object> l2 = REDIS_CACHE_TYPE.equalsIgnoreCase(cacheType) ? redisTemplate.getObject() : null;
+        log.info("Result caches: in-process L1 of {} entries for at most {}s, {}", l1MaximumSize, l1ExpireAfterWriteSeconds,
+                l2 == null ? "no L2" : "Redis L2 for " + defaultTimeToLive + " unless the cache sets its own expiry");
+        return new TwoTierCacheManager(true, l2, meterRegistry, l1MaximumSize, Duration.ofSeconds(l1ExpireAfterWriteSeconds),
+                defaultTimeToLive, entryExpiries.orderedStream().collect(Collectors.toList()));
+    }
+}
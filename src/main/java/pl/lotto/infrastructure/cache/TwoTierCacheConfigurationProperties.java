@@ -0,0 +1,11 @@
+package pl.lotto.infrastructure.cache;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.cache.l1")
+@Builder
+public record TwoTierCacheConfigurationProperties(
+        long maximumSize,
+        long expireAfterWriteSeconds) {
+}
@@ -0,0 +1,40 @@
+package pl.lotto.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.support.NullValue;
+
+import java.time.Duration;
+
+/**
+ * L1 expiry following the cache's {@link CacheEntryExpiry}, capped at the L1 time to live so a local copy
+ * never outlives what a shared L2 would serve.
+ */
+class TwoTierCacheExpiry implements Expiry<Object, Object> {
+
+    private final CacheEntryExpiry entryExpiry;
+    private final Duration l1MaximumTimeToLive;
+
+    TwoTierCacheExpiry(CacheEntryExpiry entryExpiry, Duration l1MaximumTimeToLive) {
+        this.entryExpiry = entryExpiry;
+        this.l1MaximumTimeToLive = l1MaximumTimeToLive;
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        Duration timeToLive = entryExpiry.timeToLive(key, value instanceof NullValue ? null : value);
+        if (timeToLive.isNegative()) {
+            return 0;
+        }
+        return Math.min(timeToLive.toNanos(), l1MaximumTimeToLive.toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,124 @@
+package pl.lotto.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates a {@link TwoTierCache} per cache name on first use. Without a Redis template the caches are in-process only;
+ * when caching is disabled every cache is a {@link NoOpCache} and the bulk operations do nothing.
+ * Caches without a registered {@link CacheEntryExpiry} keep every entry for the default time to live.
+ * L1 hit, miss, eviction and size meters come from {@link CaffeineCacheMetrics} tagged {@code tier=l1}.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaximumSize;
+    private final Duration l1ExpireAfterWrite;
+    private final Duration defaultTimeToLive;
+    private final Map<String, CacheEntryExpiry> entryExpiries;
+    private final boolean enabled;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final Map<String, NoOpCache> disabledCaches = new ConcurrentHashMap<>();
+
+    TwoTierCacheManager(boolean enabled, RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry, long l1MaximumSize,
+                        Duration l1ExpireAfterWrite, Duration defaultTimeToLive, List<CacheEntryExpiry> entryExpiries) {
+        this.enabled = enabled;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.l1MaximumSize = l1MaximumSize;
+        this.l1ExpireAfterWrite = l1ExpireAfterWrite;
+        this.defaultTimeToLive = defaultTimeToLive;
+        this.entryExpiries = entryExpiries.stream()
+                .collect(Collectors.toMap(CacheEntryExpiry::cacheName, Function.identity()));
+    }
+
+    @Override
+    public org.springframework.cache.Cache getCache(String name) {
+        if (!enabled) {
+            return disabledCaches.computeIfAbsent(name, NoOpCache::new);
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return enabled ? caches.keySet() : disabledCaches.keySet();
+    }
+
+    public Map<Object, Object> getAllPresent(String cacheName, Collection<?> keys) {
+        if (!enabled) {
+            return Map.of();
+        }
+        return twoTierCache(cacheName).getAllPresent(keys);
+    }
+
+    public int putAllShared(String cacheName, Map<?, ?> values) {
+        if (!enabled) {
+            return 0;
+        }
+        return twoTierCache(cacheName).putAllShared(values);
+    }
+
+    public int putAll(String cacheName, Map<?, ?> values) {
+        if (!enabled) {
+            return 0;
+        }
+        return twoTierCache(cacheName).putAll(values);
+    }
+
+    public int promoteRegion(String cacheName, String region, String targetCacheName) {
+        if (!enabled) {
+            return 0;
+        }
+        return twoTierCache(cacheName).promoteRegion(region, twoTierCache(targetCacheName));
+    }
+
+    public void evictRegion(String cacheName, String region) {
+        if (enabled) {
+            twoTierCache(cacheName).evictRegion(region);
+        }
+    }
+
+    private TwoTierCache twoTierCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    private TwoTierCache createCache(String name) {
+        CacheEntryExpiry entryExpiry = entryExpiries.getOrDefault(name, fixedExpiry(name));
+        Caffeine<Object, Object> l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfter(new TwoTierCacheExpiry(entryExpiry, l1ExpireAfterWrite))
+                .recordStats();
+        RedisCacheTier l2 = redisTemplate == null ? null : new RedisCacheTier(name, redisTemplate, meterRegistry);
+        TwoTierCache cache = new TwoTierCache(name, l1, l2, entryExpiry, meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.getNativeCache(), name, "tier", "l1");
+        return cache;
+    }
+
+    private CacheEntryExpiry fixedExpiry(String name) {
+        return new CacheEntryExpiry() {
+            @Override
+            public String cacheName() {
+                return name;
+            }
+
+            @Override
+            public Duration timeToLive(Object key, Object value) {
+                return defaultTimeToLive;
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package pl.lotto.infrastructure.cache;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.List;
+
+/**
+ * Writes values a {@link BinaryCacheCodec} accepts in its binary form and everything else as JSON. Reads dispatch
+ * on the first byte, so JSON entries written before the codec existed stay readable. A binary entry this node
+ * cannot decode (e.g. a newer version during a rolling deploy) is treated as a cache miss.
+ */
+@Log4j2
+class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    private static final int TYPE_IDS = 0x20;
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final BinaryCacheCodec[] codecsByTypeId = new BinaryCacheCodec[TYPE_IDS];
+    private final List<BinaryCacheCodec> codecs;
+    private final boolean writeBinary;
+
+    VersionedRedisSerializer(RedisSerializer<Object> jsonSerializer, List<BinaryCacheCodec> codecs, boolean writeBinary) {
+        this.jsonSerializer = jsonSerializer;
+        this.codecs = codecs;
+        this.writeBinary = writeBinary;
+        for (BinaryCacheCodec codec : codecs) {
+            if (codec.typeId() <= 0 || codec.typeId() >= TYPE_IDS || codecsByTypeId[codec.typeId()] != null) {
+                throw new IllegalArgumentException("Invalid or duplicate cache codec type id: " + codec.typeId());
+            }
+            codecsByTypeId[codec.typeId()] = codec;
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (writeBinary && value != null) {
+            for (BinaryCacheCodec codec : codecs) {
+                if (codec.canEncode(value)) {
+                    return codec.encode(value);
+                }
+            }
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int typeId = bytes[0];
+        if (typeId < 0 || typeId >= TYPE_IDS) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        BinaryCacheCodec codec = codecsByTypeId[typeId];
+        if (codec == null) {
+            log.warn("No cache codec for type id {}, treating entry as a miss", typeId);
+            return null;
+        }
+        try {
+            return codec.decode(bytes);
+        } catch (RuntimeException e) {
+            log.warn("Cannot decode cached value of type id {}, treating entry as a miss: {}", typeId, e.toString());
+            return null;
+        }
+    }
+}
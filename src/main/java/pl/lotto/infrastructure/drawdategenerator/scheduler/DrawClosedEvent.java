@@ -0,0 +1,6 @@
+package pl.lotto.infrastructure.drawdategenerator.scheduler;
+
+import java.time.LocalDateTime;
+
+public record DrawClosedEvent(LocalDateTime drawDate) {
+}
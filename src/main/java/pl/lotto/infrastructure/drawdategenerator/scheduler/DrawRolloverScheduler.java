@@ -0,0 +1,38 @@
+package pl.lotto.infrastructure.drawdategenerator.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.drawdategenerator.DrawDateFacade;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+@Component
+@AllArgsConstructor
+@Log4j2
+public class DrawRolloverScheduler {
+
+    private final DrawDateFacade drawDateFacade;
+    private final TaskScheduler taskScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleNextRollover() {
+        LocalDateTime drawDate = drawDateFacade.getNextDrawDate();
+        Instant cutoff = drawDateFacade.getNextDrawCutoff();
+        taskScheduler.schedule(() -> rollOver(drawDate), cutoff);
+        log.info("next draw rollover scheduled at {}", cutoff);
+    }
+
+    private void rollOver(LocalDateTime closedDrawDate) {
+        LocalDateTime nextDrawDate = drawDateFacade.rollOver();
+        log.info("draw rolled over, tickets are now accepted for {}", nextDrawDate);
+        eventPublisher.publishEvent(new DrawClosedEvent(closedDrawDate));
+        scheduleNextRollover();
+    }
+}
@@ -0,0 +1,109 @@
+package pl.lotto.infrastructure.mongo;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.log4j.Log4j2;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.NumbersMask;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Log4j2
+@Order(0)
+@ConditionalOnProperty(name = "lotto.mongo.migration.compactFormat", havingValue = "true")
+public class CompactFormatMigration implements ApplicationRunner {
+
+    private static final String DRAW_DATE = "drawDate";
+    private static final String DRAW_ID = "drawId";
+    private static final String NUMBERS = "numbers";
+
+    private static final Map<String, List<String>> NUMBER_FIELDS_BY_COLLECTION = Map.of(
+            "ticket", List.of(NUMBERS),
+            "player", List.of(NUMBERS, "hitNumbers", "wonNumbers"),
+            "resultResponse", List.of(NUMBERS, "hitNumbers", "wonNumbers"));
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public CompactFormatMigration(MongoTemplate mongoTemplate, MongoBulkWriteConfigurationProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = properties.batchSize() > 0 ? properties.batchSize() : 1000;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        NUMBER_FIELDS_BY_COLLECTION.forEach(this::migrate);
+    }
+
+    private void migrate(String collectionName, List<String> numberFields) {
+        if (!mongoTemplate.collectionExists(collectionName)) {
+            return;
+        }
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        Bson legacyFormat = Filters.type(NUMBERS, BsonType.ARRAY);
+        long migrated = 0;
+        List<WriteModel<Document>> batch = new ArrayList<>(batchSize);
+        try (MongoCursor<Document> cursor = collection.find(legacyFormat).batchSize(batchSize).iterator()) {
+            while (cursor.hasNext()) {
+                batch.add(toCompactFormat(cursor.next(), numberFields));
+                if (batch.size() == batchSize) {
+                    migrated += write(collection, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            migrated += write(collection, batch);
+        }
+        log.info("Migrated {} documents of collection {} to compact format", migrated, collectionName);
+    }
+
+    private static UpdateOneModel<Document> toCompactFormat(Document document, List<String> numberFields) {
+        List<Bson> updates = new ArrayList<>();
+        for (String field : numberFields) {
+            NumbersMask mask = NumbersMask.of(toNumbers(document.getList(field, Number.class)));
+            updates.add(Updates.set(field, new Document("low", mask.low()).append("high", mask.high())));
+        }
+        Date drawDate = document.getDate(DRAW_DATE);
+        if (drawDate != null) {
+            LocalDateTime localDrawDate = LocalDateTime.ofInstant(drawDate.toInstant(), ZoneId.systemDefault());
+            updates.add(Updates.set(DRAW_ID, DrawId.of(localDrawDate)));
+            updates.add(Updates.unset(DRAW_DATE));
+        }
+        return new UpdateOneModel<>(Filters.eq("_id", document.get("_id")), Updates.combine(updates));
+    }
+
+    private static Set<Integer> toNumbers(List<Number> numbers) {
+        Set<Integer> result = new HashSet<>();
+        if (numbers != null) {
+            numbers.forEach(number -> result.add(number.intValue()));
+        }
+        return result;
+    }
+
+    private static long write(MongoCollection<Document> collection, List<WriteModel<Document>> batch) {
+        return collection.bulkWrite(batch, new BulkWriteOptions().ordered(false)).getModifiedCount();
+    }
+}
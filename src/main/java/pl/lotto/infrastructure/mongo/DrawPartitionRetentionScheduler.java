@@ -0,0 +1,28 @@
+package pl.lotto.infrastructure.mongo;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Log4j2
+@AllArgsConstructor
+@ConditionalOnProperty(name = "lotto.mongo.partitioning.enabled", havingValue = "true")
+public class DrawPartitionRetentionScheduler {
+
+    private static final List<String> PARTITIONED_COLLECTIONS = List.of("ticket", "player");
+
+    private final MongoDrawPartitions drawPartitions;
+    private final MongoPartitioningConfigurationProperties properties;
+
+    @Scheduled(cron = "${lotto.mongo.partitioning.retentionOccurrence}")
+    public void dropExpiredPartitions() {
+        log.info("Draw partition retention started, keeping {} newest draws", properties.retainedDraws());
+        PARTITIONED_COLLECTIONS.forEach(collection ->
+                drawPartitions.dropPartitionsExceptNewest(collection, properties.retainedDraws()));
+    }
+}
@@ -0,0 +1,148 @@
+package pl.lotto.infrastructure.mongo;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import pl.lotto.domain.common.BulkWriteBatchReport;
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+@Log4j2
+public class MongoBulkInserter {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public MongoBulkInserter(MongoTemplate mongoTemplate, int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    public BulkWriteReport insertUnordered(Collection<?> documents, Class<?> entityClass) {
+        return insertUnordered(documents, entityClass, mongoTemplate.getCollectionName(entityClass));
+    }
+
+    public <T> BulkWriteReport insertUnorderedByDraw(Collection<T> documents, Class<T> entityClass,
+                                                     ToIntFunction<T> drawIdOf, MongoDrawPartitions partitions) {
+        return byDraw(documents, drawIdOf, (drawId, drawDocuments) ->
+                insertUnordered(drawDocuments, entityClass, partitions.ensureCollectionFor(entityClass, drawId)));
+    }
+
+    public BulkWriteReport insertUnordered(Collection<?> documents, Class<?> entityClass, String collectionName) {
+        return writeUnordered(documents, entityClass, collectionName, "insert", BulkOperations::insert);
+    }
+
+    /**
+     * Unordered counterpart of {@code saveAll}: every document replaces the one stored under its id or is inserted,
+     * so writing the same documents again, e.g. when a draw is re-evaluated, succeeds instead of failing on duplicates.
+     */
+    public <T> BulkWriteReport upsertUnordered(Collection<T> documents, Class<T> entityClass, Function<T, Object> idOf) {
+        return upsertUnordered(documents, entityClass, idOf, mongoTemplate.getCollectionName(entityClass));
+    }
+
+    public <T> BulkWriteReport upsertUnorderedByDraw(Collection<T> documents, Class<T> entityClass, Function<T, Object> idOf,
+                                                     ToIntFunction<T> drawIdOf, MongoDrawPartitions partitions) {
+        return byDraw(documents, drawIdOf, (drawId, drawDocuments) ->
+                upsertUnordered(drawDocuments, entityClass, idOf, partitions.ensureCollectionFor(entityClass, drawId)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BulkWriteReport upsertUnordered(Collection<T> documents, Class<T> entityClass, Function<T, Object> idOf,
+                                                String collectionName) {
+        return writeUnordered(documents, entityClass, collectionName, "upsert", (operations, batch) -> {
+            batch.forEach(document -> operations.replaceOne(Query.query(Criteria.where(ID).is(idOf.apply((T) document))),
+                    document, FindAndReplaceOptions.options().upsert()));
+            return operations;
+        });
+    }
+
+    private <T> BulkWriteReport byDraw(Collection<T> documents, ToIntFunction<T> drawIdOf,
+                                       BiFunction<Integer, List<T>, BulkWriteReport> writeDraw) {
+        Map<Integer, List<T>> documentsByDraw = documents.stream()
+                .collect(Collectors.groupingBy(drawIdOf::applyAsInt));
+        List<BulkWriteBatchReport> batches = new ArrayList<>();
+        documentsByDraw.forEach((drawId, drawDocuments) -> batches.addAll(writeDraw.apply(drawId, drawDocuments).batches()));
+        return new BulkWriteReport(batches);
+    }
+
+    private BulkWriteReport writeUnordered(Collection<?> documents, Class<?> entityClass, String collectionName, String operation,
+                                           BiFunction<BulkOperations, List<Object>, BulkOperations> addBatch) {
+        if (documents.isEmpty()) {
+            return BulkWriteReport.EMPTY;
+        }
+        List<BulkWriteBatchReport> batches = new ArrayList<>();
+        List<Object> batch = new ArrayList<>(Math.min(batchSize, documents.size()));
+        for (Object document : documents) {
+            batch.add(document);
+            if (batch.size() == batchSize) {
+                batches.add(writeBatch(batches.size(), batch, entityClass, collectionName, addBatch));
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(writeBatch(batches.size(), batch, entityClass, collectionName, addBatch));
+        }
+        BulkWriteReport report = new BulkWriteReport(batches);
+        log.info("Bulk {} of {} documents into {} finished in {} batches: written {}, failed {}",
+                operation, documents.size(), collectionName, batches.size(), report.inserted(), report.failed());
+        return report;
+    }
+
+    private BulkWriteBatchReport writeBatch(int batchIndex, List<Object> batch, Class<?> entityClass, String collectionName,
+                                            BiFunction<BulkOperations, List<Object>, BulkOperations> addBatch) {
+        long start = System.nanoTime();
+        long inserted;
+        long failed;
+        List<Object> retryable = List.of();
+        try {
+            BulkWriteResult result = addBatch.apply(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass, collectionName), batch)
+                    .execute();
+            inserted = writtenCount(result);
+            failed = 0;
+        } catch (BulkOperationException e) {
+            inserted = writtenCount(e.getResult());
+            failed = e.getErrors().size();
+            retryable = e.getErrors().stream()
+                    .filter(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)
+                    .map(BulkWriteError::getIndex)
+                    .map(batch::get)
+                    .toList();
+            log.warn("Bulk write batch {} of {}: {} of {} documents failed, first error: {}",
+                    batchIndex, collectionName, failed, batch.size(), e.getErrors().get(0).getMessage());
+        }
+        Duration latency = Duration.ofNanos(System.nanoTime() - start);
+        log.debug("Bulk write batch {} of {}: {} documents in {} ms",
+                batchIndex, collectionName, batch.size(), latency.toMillis());
+        return BulkWriteBatchReport.builder()
+                .batchIndex(batchIndex)
+                .size(batch.size())
+                .inserted(inserted)
+                .failed(failed)
+                .latency(latency)
+                .retryable(retryable)
+                .build();
+    }
+
+    private static long writtenCount(BulkWriteResult result) {
+        return result.getInsertedCount() + result.getMatchedCount() + result.getUpserts().size();
+    }
+}
@@ -0,0 +1,23 @@
+package pl.lotto.infrastructure.mongo;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Clock;
+
+@Configuration
+public class MongoBulkWriteConfig {
+
+    @Bean
+    MongoBulkInserter mongoBulkInserter(MongoTemplate mongoTemplate, MongoBulkWriteConfigurationProperties properties) {
+        return new MongoBulkInserter(mongoTemplate, properties.batchSize());
+    }
+
+    @Bean
+    MongoDrawPartitions mongoDrawPartitions(MongoTemplate mongoTemplate, MongoMappingContext mappingContext, Clock clock,
+                                            MongoPartitioningConfigurationProperties properties) {
+        return new MongoDrawPartitions(mongoTemplate, mappingContext, clock, properties.enabled());
+    }
+}
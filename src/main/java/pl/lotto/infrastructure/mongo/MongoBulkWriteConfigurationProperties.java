@@ -0,0 +1,9 @@
+package pl.lotto.infrastructure.mongo;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.mongo.bulk-write")
+@Builder
+public record MongoBulkWriteConfigurationProperties(int batchSize) {
+}
@@ -0,0 +1,219 @@
+package pl.lotto.infrastructure.mongo;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.TimeOrderedId;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Routes documents of an entity to one collection per draw, named {@code <collection>_<drawId>}.
+ * When partitioning is disabled every draw maps to the entity's default collection.
+ */
+@Log4j2
+public class MongoDrawPartitions {
+
+    private static final String SEPARATOR = "_";
+    private static final String DRAW_ID = "drawId";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Map<String, NavigableSet<Integer>> partitionsByCollection = new ConcurrentHashMap<>();
+
+    public MongoDrawPartitions(MongoTemplate mongoTemplate, MongoMappingContext mappingContext, Clock clock, boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+        this.clock = clock;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String collectionFor(Class<?> entityClass, int drawId) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        return enabled ? partitionName(collection, drawId) : collection;
+    }
+
+    public String collectionFor(String collection, int drawId) {
+        return enabled ? partitionName(collection, drawId) : collection;
+    }
+
+    public List<Integer> drawIdsNewestFirst(Class<?> entityClass) {
+        return enabled ? new ArrayList<>(partitionsOf(mongoTemplate.getCollectionName(entityClass)).descendingSet()) : List.of();
+    }
+
+    public String ensureCollectionFor(Class<?> entityClass, int drawId) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        if (!enabled) {
+            return collection;
+        }
+        NavigableSet<Integer> partitions = partitionsOf(collection);
+        if (!partitions.contains(drawId)) {
+            createPartition(entityClass, collection, drawId);
+            partitions.add(drawId);
+        }
+        return partitionName(collection, drawId);
+    }
+
+    public <T> Optional<T> findByTimeOrderedId(Class<?> entityClass, String id, Function<String, T> lookup) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        if (!enabled) {
+            return Optional.ofNullable(lookup.apply(collection));
+        }
+        Integer routedDrawId = routeToDraw(collection, id);
+        if (routedDrawId != null) {
+            T found = lookup.apply(partitionName(collection, routedDrawId));
+            if (found != null) {
+                return Optional.of(found);
+            }
+        }
+        for (String candidate : candidateCollections(collection, routedDrawId)) {
+            T found = lookup.apply(candidate);
+            if (found != null) {
+                return Optional.of(found);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Batch variant of {@link #findByTimeOrderedId}: one lookup per partition the ids route to, then the ids still
+     * missing are looked up in the remaining partitions newest first, each with a single lookup.
+     */
+    public <T> Map<String, T> findAllByTimeOrderedIds(Class<?> entityClass, Collection<String> ids,
+                                                      BiFunction<String, Collection<String>, List<T>> lookup,
+                                                      Function<T, String> idOf) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        Map<String, T> found = new HashMap<>();
+        if (!enabled) {
+            lookup.apply(collection, ids).forEach(document -> found.put(idOf.apply(document), document));
+            return found;
+        }
+        Map<Integer, List<String>> idsByRoutedDraw = new HashMap<>();
+        for (String id : ids) {
+            Integer routedDrawId = routeToDraw(collection, id);
+            if (routedDrawId != null) {
+                idsByRoutedDraw.computeIfAbsent(routedDrawId, drawId -> new ArrayList<>()).add(id);
+            }
+        }
+        idsByRoutedDraw.forEach((drawId, routedIds) -> lookup.apply(partitionName(collection, drawId), routedIds)
+                .forEach(document -> found.put(idOf.apply(document), document)));
+        Collection<String> missing = new LinkedHashSet<>(ids);
+        missing.removeAll(found.keySet());
+        for (String candidate : candidateCollections(collection, null)) {
+            if (missing.isEmpty()) {
+                break;
+            }
+            for (T document : lookup.apply(candidate, missing)) {
+                String id = idOf.apply(document);
+                found.put(id, document);
+                missing.remove(id);
+            }
+        }
+        return found;
+    }
+
+    public List<Integer> dropPartitionsExceptNewest(String collection, int retainedDraws) {
+        NavigableSet<Integer> partitions = refreshPartitions(collection);
+        List<Integer> dropped = new ArrayList<>();
+        while (partitions.size() > retainedDraws) {
+            Integer oldest = partitions.pollFirst();
+            mongoTemplate.dropCollection(partitionName(collection, oldest));
+            dropped.add(oldest);
+        }
+        if (!dropped.isEmpty()) {
+            log.info("Dropped {} partitions of draws {}", collection, dropped);
+        }
+        return dropped;
+    }
+
+    private Integer routeToDraw(String collection, String id) {
+        OptionalLong createdAt = TimeOrderedId.timestampMillis(id);
+        if (createdAt.isEmpty()) {
+            return null;
+        }
+        int createdDrawMinute = DrawId.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt.getAsLong()), clock.getZone()));
+        Integer drawId = partitionsOf(collection).higher(createdDrawMinute);
+        return drawId != null ? drawId : refreshPartitions(collection).higher(createdDrawMinute);
+    }
+
+    private List<String> candidateCollections(String collection, Integer skippedDrawId) {
+        List<String> candidates = new ArrayList<>();
+        for (Integer drawId : refreshPartitions(collection).descendingSet()) {
+            if (!drawId.equals(skippedDrawId)) {
+                candidates.add(partitionName(collection, drawId));
+            }
+        }
+        candidates.add(collection);
+        return candidates;
+    }
+
+    private NavigableSet<Integer> partitionsOf(String collection) {
+        NavigableSet<Integer> partitions = partitionsByCollection.get(collection);
+        return partitions != null ? partitions : refreshPartitions(collection);
+    }
+
+    private NavigableSet<Integer> refreshPartitions(String collection) {
+        String prefix = collection + SEPARATOR;
+        NavigableSet<Integer> partitions = new ConcurrentSkipListSet<>();
+        for (String name : mongoTemplate.getCollectionNames()) {
+            if (name.startsWith(prefix)) {
+                parseDrawId(name.substring(prefix.length())).ifPresent(partitions::add);
+            }
+        }
+        partitionsByCollection.put(collection, partitions);
+        return partitions;
+    }
+
+    private void createPartition(Class<?> entityClass, String collection, int drawId) {
+        String partition = partitionName(collection, drawId);
+        IndexOperations indexOperations = mongoTemplate.indexOps(partition);
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (IndexDefinition index : indexResolver.resolveIndexFor(entityClass)) {
+            if (!isDrawIdIndex(index)) {
+                indexOperations.ensureIndex(index);
+            }
+        }
+        log.info("Created partition {}", partition);
+    }
+
+    private static boolean isDrawIdIndex(IndexDefinition index) {
+        return index.getIndexKeys().size() == 1 && index.getIndexKeys().containsKey(DRAW_ID);
+    }
+
+    private static Optional<Integer> parseDrawId(String suffix) {
+        try {
+            return Optional.of(Integer.parseInt(suffix));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String partitionName(String collection, int drawId) {
+        return collection + SEPARATOR + drawId;
+    }
+}
@@ -0,0 +1,9 @@
+package pl.lotto.infrastructure.mongo;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.mongo.indexes")
+@Builder
+public record MongoIndexConfigurationProperties(boolean failOnCollectionScan) {
+}
@@ -0,0 +1,104 @@
+package pl.lotto.infrastructure.mongo;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.model.Filters;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@Component
+@Log4j2
+@Order(1)
+@AllArgsConstructor
+public class MongoIndexManager implements ApplicationRunner {
+
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+
+    private static final List<QueryProbe> QUERY_PROBES = List.of(
+            new QueryProbe("ticket", "TicketRepository.findAllTicketsByDrawId", Filters.eq("drawId", 0)),
+            new QueryProbe("ticket", "TicketRepository.findByHash", Filters.eq("hash", "")),
+            new QueryProbe("ticket", "TicketRepository.findByDrawIdAndIdempotencyKey",
+                    Filters.and(Filters.eq("drawId", 0), Filters.eq("idempotencyKey", ""))),
+            new QueryProbe("ticket", "TicketRepository.findPageOfOwner",
+                    Filters.and(Filters.eq("ownerId", ""), Filters.lt("hash", ""))),
+            new QueryProbe("subscription", "TicketRepository.findPageOfOwner",
+                    Filters.and(Filters.eq("ownerId", ""), Filters.lt("hash", ""))),
+            new QueryProbe("subscription", "TicketRepository.streamAllSubscriptionsCoveringDraw",
+                    Filters.and(Filters.gte("lastDrawId", 0), Filters.lte("firstDrawId", 0))),
+            new QueryProbe("player", "PlayerRepository.findById", Filters.eq("_id", "")),
+            new QueryProbe("winningNumbers", "WinningNumbersRepository.findNumbersByDate", Filters.eq("date", new Date(0))),
+            new QueryProbe("resultResponse", "ResponseRepository.findById", Filters.eq("_id", "")),
+            new QueryProbe("user", "LoginRepository.findByUsername", Filters.eq("username", "")));
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final MongoIndexConfigurationProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ensureIndexes();
+        verifyQueryPlans();
+    }
+
+    private void ensureIndexes() {
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            IndexOperations indexOperations = mongoTemplate.indexOps(entity.getCollection());
+            for (IndexDefinition index : indexResolver.resolveIndexFor(entity.getTypeInformation())) {
+                String name = indexOperations.ensureIndex(index);
+                log.info("Ensured index {} on collection {}", name, entity.getCollection());
+            }
+        }
+    }
+
+    private void verifyQueryPlans() {
+        List<String> collectionScans = new ArrayList<>();
+        for (QueryProbe probe : QUERY_PROBES) {
+            Document explain = mongoTemplate.getCollection(probe.collection())
+                    .find(probe.filter())
+                    .explain(ExplainVerbosity.QUERY_PLANNER);
+            Object winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan");
+            if (containsStage(winningPlan, COLLECTION_SCAN)) {
+                collectionScans.add(probe.query());
+                log.warn("Query {} on collection {} does a collection scan", probe.query(), probe.collection());
+            }
+        }
+        if (!collectionScans.isEmpty() && properties.failOnCollectionScan()) {
+            throw new IllegalStateException("Queries without index: " + collectionScans);
+        }
+    }
+
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+
+    private record QueryProbe(String collection, String query, Bson filter) {
+    }
+}
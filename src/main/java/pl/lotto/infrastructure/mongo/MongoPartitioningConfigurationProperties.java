@@ -0,0 +1,9 @@
+package pl.lotto.infrastructure.mongo;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.mongo.partitioning")
+@Builder
+public record MongoPartitioningConfigurationProperties(boolean enabled, int retainedDraws) {
+}
@@ -0,0 +1,12 @@
+package pl.lotto.infrastructure.numberreceiver.controller;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+public record InputNumbersBatchRequestDto(
+        @NotNull(message = "{tickets.not.null}")
+        @NotEmpty(message = "{tickets.not.empty}")
+        List<@Valid InputNumbersRequestDto> tickets) {
+}
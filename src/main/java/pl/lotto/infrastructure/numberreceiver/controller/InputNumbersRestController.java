@@ -3,27 +3,70 @@ package pl.lotto.infrastructure.numberreceiver.controller;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverBatchResponseDto;
 import pl.lotto.domain.numberreceiver.dto.NumberReceiverResponseDto;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverSubscriptionResponseDto;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import java.security.Principal;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @RestController
+@Validated
 @Log4j2
 @AllArgsConstructor
 public class InputNumbersRestController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final NumberReceiverFacade numberReceiverFacade;
 
     @PostMapping("/inputNumbers")
-    public ResponseEntity<NumberReceiverResponseDto> inputNumbers(@RequestBody @Valid InputNumbersRequestDto requestDto) {
+    public ResponseEntity<NumberReceiverResponseDto> inputNumbers(@RequestBody @Valid InputNumbersRequestDto requestDto,
+                                                                  @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                                  Principal principal) {
         Set<Integer> distinctNumbers = new HashSet<>(requestDto.inputNumbers());
-        NumberReceiverResponseDto numberReceiverResponseDto = numberReceiverFacade.inputNumbers(distinctNumbers);
+        NumberReceiverResponseDto numberReceiverResponseDto = numberReceiverFacade.inputNumbers(distinctNumbers,
+                idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey, principal.getName());
         return ResponseEntity.ok(numberReceiverResponseDto);
     }
+
+    @PostMapping("/inputNumbers/batch")
+    public ResponseEntity<NumberReceiverBatchResponseDto> inputNumbersBatch(@RequestBody @Valid InputNumbersBatchRequestDto requestDto,
+                                                                            Principal principal) {
+        List<Set<Integer>> distinctNumbersBatch = requestDto.tickets()
+                .stream()
+                .<Set<Integer>>map(ticket -> new HashSet<>(ticket.inputNumbers()))
+                .toList();
+        NumberReceiverBatchResponseDto batchResponseDto = numberReceiverFacade.inputNumbersBatch(distinctNumbersBatch, principal.getName());
+        log.info("Batch of {} tickets: accepted {}, rejected {}", distinctNumbersBatch.size(), batchResponseDto.accepted(), batchResponseDto.rejected());
+        return ResponseEntity.ok(batchResponseDto);
+    }
+
+    @PostMapping("/inputNumbers/subscription")
+    public ResponseEntity<NumberReceiverSubscriptionResponseDto> inputSubscription(@RequestBody @Valid InputNumbersSubscriptionRequestDto requestDto,
+                                                                                   Principal principal) {
+        Set<Integer> distinctNumbers = new HashSet<>(requestDto.inputNumbers());
+        NumberReceiverSubscriptionResponseDto subscriptionResponseDto = numberReceiverFacade.inputSubscription(distinctNumbers,
+                requestDto.draws(), principal.getName());
+        return ResponseEntity.ok(subscriptionResponseDto);
+    }
+
+    @PostMapping("/inputNumbers/quickPick")
+    public ResponseEntity<NumberReceiverBatchResponseDto> inputQuickPicks(@RequestParam(defaultValue = "1") @Min(1) int count,
+                                                                          Principal principal) {
+        NumberReceiverBatchResponseDto batchResponseDto = numberReceiverFacade.inputQuickPicks(count, principal.getName());
+        log.info("Quick-pick batch of {} tickets accepted", batchResponseDto.accepted());
+        return ResponseEntity.ok(batchResponseDto);
+    }
 }
@@ -0,0 +1,9 @@
+package pl.lotto.infrastructure.numberreceiver.controller;
+
+import lombok.Builder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "lotto.number-receiver.stream")
+@Builder
+public record InputNumbersStreamConfigurationProperties(int batchSize) {
+}
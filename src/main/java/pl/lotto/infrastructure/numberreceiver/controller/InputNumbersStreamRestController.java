@@ -0,0 +1,122 @@
+package pl.lotto.infrastructure.numberreceiver.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverResponseDto;
+import pl.lotto.domain.numberreceiver.dto.TicketDto;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@Log4j2
+public class InputNumbersStreamRestController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final NumberReceiverFacade numberReceiverFacade;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public InputNumbersStreamRestController(NumberReceiverFacade numberReceiverFacade, ObjectMapper objectMapper,
+                                            InputNumbersStreamConfigurationProperties properties) {
+        this.numberReceiverFacade = numberReceiverFacade;
+        this.objectMapper = objectMapper;
+        int configuredBatchSize = properties.batchSize() > 0 ? properties.batchSize() : DEFAULT_BATCH_SIZE;
+        this.batchSize = Math.min(configuredBatchSize, numberReceiverFacade.maxBatchSize());
+        if (batchSize < configuredBatchSize) {
+            log.warn("Ticket stream batch size {} exceeds max batch size, using {}", configuredBatchSize, batchSize);
+        }
+    }
+
+    @PostMapping(value = "/inputNumbers/stream", consumes = NDJSON, produces = NDJSON)
+    public void inputNumbersStream(InputStream requestBody, HttpServletResponse response, Principal principal) throws IOException {
+        response.setContentType(NDJSON);
+        long lines = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(requestBody, StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8))) {
+            List<StreamLine> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(parse(lines, line));
+                if (batch.size() == batchSize) {
+                    processBatch(batch, principal.getName(), writer);
+                    response.flushBuffer();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            processBatch(batch, principal.getName(), writer);
+        }
+        log.info("Processed ticket stream of {} lines", lines);
+    }
+
+    private StreamLine parse(long lineNumber, String line) {
+        try {
+            InputNumbersRequestDto requestDto = objectMapper.readValue(line, InputNumbersRequestDto.class);
+            if (requestDto.inputNumbers() == null || requestDto.inputNumbers().isEmpty()) {
+                return new StreamLine(lineNumber, null, "inputNumbers must not be empty");
+            }
+            return new StreamLine(lineNumber, new HashSet<>(requestDto.inputNumbers()), null);
+        } catch (JsonProcessingException e) {
+            return new StreamLine(lineNumber, null, "malformed ticket line");
+        }
+    }
+
+    private void processBatch(List<StreamLine> batch, String ownerId, Writer writer) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Set<Integer>> validNumbers = batch.stream()
+                .filter(streamLine -> streamLine.numbers() != null)
+                .map(StreamLine::numbers)
+                .toList();
+        Iterator<NumberReceiverResponseDto> results = validNumbers.isEmpty()
+                ? List.<NumberReceiverResponseDto>of().iterator()
+                : numberReceiverFacade.inputNumbersBatch(validNumbers, ownerId).results().iterator();
+        for (StreamLine streamLine : batch) {
+            TicketReceiptDto receipt = streamLine.numbers() == null
+                    ? TicketReceiptDto.builder().line(streamLine.lineNumber()).error(streamLine.error()).build()
+                    : toReceipt(streamLine.lineNumber(), results.next());
+            writer.write(objectMapper.writeValueAsString(receipt));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static TicketReceiptDto toReceipt(long lineNumber, NumberReceiverResponseDto result) {
+        TicketDto ticketDto = result.ticketDto();
+        if (ticketDto == null) {
+            return TicketReceiptDto.builder().line(lineNumber).error(result.message()).build();
+        }
+        return TicketReceiptDto.builder()
+                .line(lineNumber)
+                .hash(ticketDto.hash())
+                .drawDate(ticketDto.drawDate())
+                .build();
+    }
+
+    private record StreamLine(long lineNumber, Set<Integer> numbers, String error) {
+    }
+}
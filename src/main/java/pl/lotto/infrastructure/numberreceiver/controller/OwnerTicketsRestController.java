@@ -0,0 +1,26 @@
+package pl.lotto.infrastructure.numberreceiver.controller;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
+import pl.lotto.domain.numberreceiver.dto.OwnerTicketsPageDto;
+
+import java.security.Principal;
+
+@RestController
+@AllArgsConstructor
+public class OwnerTicketsRestController {
+
+    private final NumberReceiverFacade numberReceiverFacade;
+
+    @GetMapping("/tickets")
+    public ResponseEntity<OwnerTicketsPageDto> retrieveOwnTickets(@RequestParam(required = false) String after,
+                                                                  @RequestParam(defaultValue = "50") int limit,
+                                                                  Principal principal) {
+        OwnerTicketsPageDto page = numberReceiverFacade.retrieveTicketsOfOwner(principal.getName(), after, limit);
+        return ResponseEntity.ok(page);
+    }
+}
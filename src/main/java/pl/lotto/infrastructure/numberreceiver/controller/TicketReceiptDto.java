@@ -0,0 +1,15 @@
+package pl.lotto.infrastructure.numberreceiver.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TicketReceiptDto(
+        long line,
+        String hash,
+        LocalDateTime drawDate,
+        String error) {
+}
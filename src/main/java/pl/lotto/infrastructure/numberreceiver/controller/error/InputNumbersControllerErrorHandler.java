@@ -0,0 +1,34 @@
+package pl.lotto.infrastructure.numberreceiver.controller.error;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import pl.lotto.domain.numberreceiver.TicketBatchTooLargeException;
+
+import javax.validation.ConstraintViolationException;
+
+@ControllerAdvice
+@Log4j2
+public class InputNumbersControllerErrorHandler {
+
+    @ExceptionHandler(TicketBatchTooLargeException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public InputNumbersErrorResponse handleTicketBatchTooLarge(TicketBatchTooLargeException exception) {
+        String message = exception.getMessage();
+        log.warn(message);
+        return new InputNumbersErrorResponse(message, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public InputNumbersErrorResponse handleConstraintViolation(ConstraintViolationException exception) {
+        String message = exception.getMessage();
+        log.warn(message);
+        return new InputNumbersErrorResponse(message, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,8 @@
+package pl.lotto.infrastructure.numberreceiver.controller.error;
+
+import org.springframework.http.HttpStatus;
+
+public record InputNumbersErrorResponse(
+        String message,
+        HttpStatus status) {
+}
@@ -0,0 +1,33 @@
+package pl.lotto.infrastructure.numberreceiver.startup;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
+import pl.lotto.infrastructure.drawdategenerator.scheduler.DrawClosedEvent;
+
+@Component
+@Log4j2
+@Order(2)
+@AllArgsConstructor
+public class IssuedTicketFilterLoader implements ApplicationRunner {
+
+    private final NumberReceiverFacade numberReceiverFacade;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        numberReceiverFacade.rebuildIssuedTicketFilter();
+        log.info("Issued ticket filter rebuilt in {} ms", System.currentTimeMillis() - start);
+    }
+
+    @EventListener
+    public void reseedClosedDraw(DrawClosedEvent event) {
+        numberReceiverFacade.reseedIssuedTicketFilter(event.drawDate());
+        log.info("Issued ticket filter of draw {} reseeded", event.drawDate());
+    }
+}
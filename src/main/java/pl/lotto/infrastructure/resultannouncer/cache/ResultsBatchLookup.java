@@ -0,0 +1,57 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
+import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerBatchResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.infrastructure.cache.TwoTierCacheManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch counterpart of the {@code @Cacheable} {@link ResultAnnouncerFacade#checkResult(String)}: answers found in
+ * the {@code results} cache are reused and only the misses reach the facade, whose answers are cached in turn.
+ * Hashes the issued ticket filter has never seen are answered as unknown up front and are not cached. Batches over
+ * the facade's limit are rejected before the filter or the cache is consulted.
+ */
+@Component
+@AllArgsConstructor
+public class ResultsBatchLookup {
+
+    private final ResultAnnouncerFacade resultAnnouncerFacade;
+    private final TwoTierCacheManager cacheManager;
+    private final NumberReceiverFacade numberReceiverFacade;
+
+    public ResultAnnouncerBatchResponseDto checkResults(List<String> hashes) {
+        resultAnnouncerFacade.requireWithinBatchLimit(hashes);
+        Map<String, ResultAnnouncerResponseDto> cached = new HashMap<>();
+        List<String> issued = new ArrayList<>(hashes.size());
+        for (String hash : hashes) {
+            if (numberReceiverFacade.mightHaveIssued(hash)) {
+                issued.add(hash);
+            } else {
+                cached.put(hash, resultAnnouncerFacade.unknownTicketAnswer());
+            }
+        }
+        cacheManager.getAllPresent(ResultsCacheExpiry.CACHE_NAME, issued).forEach((key, value) -> {
+            if (value instanceof ResultAnnouncerResponseDto response) {
+                cached.put((String) key, response);
+            }
+        });
+        ResultAnnouncerBatchResponseDto batchResponse = resultAnnouncerFacade.checkResults(hashes, cached);
+        List<ResultAnnouncerResponseDto> results = batchResponse.results();
+        Map<String, ResultAnnouncerResponseDto> answered = new HashMap<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            if (!cached.containsKey(hashes.get(i))) {
+                answered.put(hashes.get(i), results.get(i));
+            }
+        }
+        cacheManager.putAll(ResultsCacheExpiry.CACHE_NAME, answered);
+        return batchResponse;
+    }
+}
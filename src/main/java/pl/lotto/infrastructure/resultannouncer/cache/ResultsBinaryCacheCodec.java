@@ -0,0 +1,30 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.resultannouncer.ResultAnnouncementCodec;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.infrastructure.cache.BinaryCacheCodec;
+
+@Component
+class ResultsBinaryCacheCodec implements BinaryCacheCodec {
+
+    @Override
+    public byte typeId() {
+        return ResultAnnouncementCodec.TYPE_ID;
+    }
+
+    @Override
+    public boolean canEncode(Object value) {
+        return value instanceof ResultAnnouncerResponseDto announcement && ResultAnnouncementCodec.canEncode(announcement);
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return ResultAnnouncementCodec.encode((ResultAnnouncerResponseDto) value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return ResultAnnouncementCodec.decode(bytes);
+    }
+}
@@ -0,0 +1,52 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultCacheExpiryDto;
+import pl.lotto.infrastructure.cache.CacheEntryExpiry;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps pre-draw answers in the {@code results} cache only until the announcement, in a region per draw,
+ * and final results until the draw leaves retention.
+ */
+@Component
+@AllArgsConstructor
+class ResultsCacheExpiry implements CacheEntryExpiry {
+
+    static final String CACHE_NAME = "results";
+    private static final String DRAW_REGION_PREFIX = "draw:";
+
+    private final ResultAnnouncerFacade resultAnnouncerFacade;
+    private final Clock clock;
+
+    static String drawRegion(int drawId) {
+        return DRAW_REGION_PREFIX + drawId;
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public Duration timeToLive(Object key, Object value) {
+        if (!(value instanceof ResultAnnouncerResponseDto response)) {
+            return Duration.ZERO;
+        }
+        return Duration.between(clock.instant(), resultAnnouncerFacade.cacheExpiryOf(response).expiresAt());
+    }
+
+    @Override
+    public String region(Object key, Object value) {
+        if (!(value instanceof ResultAnnouncerResponseDto response)) {
+            return null;
+        }
+        ResultCacheExpiryDto expiry = resultAnnouncerFacade.cacheExpiryOf(response);
+        return expiry.preDrawId() == null ? null : drawRegion(expiry.preDrawId());
+    }
+}
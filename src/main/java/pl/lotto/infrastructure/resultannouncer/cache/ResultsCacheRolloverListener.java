@@ -0,0 +1,23 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.infrastructure.cache.TwoTierCacheManager;
+import pl.lotto.infrastructure.drawdategenerator.scheduler.DrawClosedEvent;
+
+@Component
+@AllArgsConstructor
+@Log4j2
+class ResultsCacheRolloverListener {
+
+    private final TwoTierCacheManager cacheManager;
+
+    @EventListener
+    public void evictPreDrawResults(DrawClosedEvent event) {
+        cacheManager.evictRegion(ResultsCacheExpiry.CACHE_NAME, ResultsCacheExpiry.drawRegion(DrawId.of(event.drawDate())));
+        log.info("evicted cached pre-draw results of draw {}", event.drawDate());
+    }
+}
@@ -0,0 +1,46 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.infrastructure.cache.CacheEntryExpiry;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Keeps final answers staged by {@link ResultsReadModelPublisher} in a region per draw, apart from the
+ * {@code results} cache read by {@link ResultAnnouncerFacade#checkResult(String)}, until the draw is announced.
+ */
+@Component
+@AllArgsConstructor
+class ResultsReadModelExpiry implements CacheEntryExpiry {
+
+    static final String CACHE_NAME = "resultsReadModel";
+
+    private final ResultAnnouncerFacade resultAnnouncerFacade;
+    private final Clock clock;
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public Duration timeToLive(Object key, Object value) {
+        if (!(value instanceof ResultAnnouncerResponseDto response) || response.responseDto() == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(clock.instant(), resultAnnouncerFacade.cacheExpiryOf(response).expiresAt());
+    }
+
+    @Override
+    public String region(Object key, Object value) {
+        if (!(value instanceof ResultAnnouncerResponseDto response) || response.responseDto() == null) {
+            return null;
+        }
+        return ResultsCacheExpiry.drawRegion(DrawId.of(response.responseDto().drawDate()));
+    }
+}
@@ -0,0 +1,99 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.domain.resultchecker.dto.ResultDto;
+import pl.lotto.infrastructure.cache.TwoTierCacheManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stages every evaluated ticket's final answer in the shared {@code resultsReadModel} cache as soon as the result
+ * checker stores it, in the draw's region where {@code /results/{id}} cannot see it. Once the whole batch stream has
+ * been published and the draw time has passed, the draw is announced, its cached {@code WAIT} answers are evicted and
+ * the staged answers are promoted into the {@code results} cache, so {@code /results/{id}} is a single cache read from
+ * the moment the draw is announced.
+ */
+@Component
+@Log4j2
+public class ResultsReadModelPublisher {
+
+    private static final Duration ANNOUNCEMENT_GRACE = Duration.ofSeconds(1);
+
+    private final ResultAnnouncerFacade resultAnnouncerFacade;
+    private final TwoTierCacheManager cacheManager;
+    private final Clock clock;
+    private final TaskScheduler taskScheduler;
+    private final Counter publishedResults;
+    private final Timer batchLatency;
+    private final Timer announcementDelay;
+    private final AtomicLong publishedInDraw = new AtomicLong();
+
+    public ResultsReadModelPublisher(ResultAnnouncerFacade resultAnnouncerFacade, TwoTierCacheManager cacheManager,
+                                     Clock clock, TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+        this.resultAnnouncerFacade = resultAnnouncerFacade;
+        this.cacheManager = cacheManager;
+        this.clock = clock;
+        this.taskScheduler = taskScheduler;
+        this.publishedResults = Counter.builder("results.readmodel.published").register(meterRegistry);
+        this.batchLatency = Timer.builder("results.readmodel.batch.latency").register(meterRegistry);
+        this.announcementDelay = Timer.builder("results.readmodel.announcement.delay").register(meterRegistry);
+        meterRegistry.gauge("results.readmodel.draw.published", publishedInDraw);
+    }
+
+    public void publish(List<ResultDto> results) {
+        long start = System.nanoTime();
+        List<ResultAnnouncerResponseDto> announcements = resultAnnouncerFacade.finalAnnouncementsOf(results);
+        Map<String, ResultAnnouncerResponseDto> entries = new HashMap<>(announcements.size());
+        for (int i = 0; i < results.size(); i++) {
+            entries.put(results.get(i).hash(), announcements.get(i));
+        }
+        int published = cacheManager.putAllShared(ResultsReadModelExpiry.CACHE_NAME, entries);
+        batchLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        publishedResults.increment(published);
+        log.info("Published {} results to the read model, {} so far for this draw", published, publishedInDraw.addAndGet(published));
+    }
+
+    /**
+     * Called once the draw's whole batch stream has been published. The draw is announced and its staged answers
+     * promoted right away when its draw time has passed, otherwise as soon as it does.
+     */
+    public void announce(LocalDateTime drawDate) {
+        long published = publishedInDraw.getAndSet(0);
+        if (announceAndPromote(drawDate)) {
+            return;
+        }
+        Instant announcementTime = drawDate.atZone(clock.getZone()).toInstant().plus(ANNOUNCEMENT_GRACE);
+        taskScheduler.schedule(() -> announceAndPromote(drawDate), announcementTime);
+        log.info("Draw {} published with {} results ahead of its time, announcement scheduled at {}", drawDate, published,
+                announcementTime);
+    }
+
+    private boolean announceAndPromote(LocalDateTime drawDate) {
+        if (!resultAnnouncerFacade.announceDraw(drawDate)) {
+            return false;
+        }
+        String drawRegion = ResultsCacheExpiry.drawRegion(DrawId.of(drawDate));
+        cacheManager.evictRegion(ResultsCacheExpiry.CACHE_NAME, drawRegion);
+        int promoted = cacheManager.promoteRegion(ResultsReadModelExpiry.CACHE_NAME, drawRegion, ResultsCacheExpiry.CACHE_NAME);
+        Duration delay = Duration.between(drawDate, LocalDateTime.now(clock));
+        announcementDelay.record(delay.isNegative() ? Duration.ZERO : delay);
+        log.info("Draw {} announced {} after draw time with {} promoted results", drawDate, delay, promoted);
+        return true;
+    }
+}
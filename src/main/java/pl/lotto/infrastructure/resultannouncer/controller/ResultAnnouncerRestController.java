@@ -1,22 +1,49 @@
 package pl.lotto.infrastructure.resultannouncer.controller;
 
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.DrawTicketId;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
 import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerBatchResponseDto;
 import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.domain.resultchecker.PlayerResultNotFoundException;
+import pl.lotto.infrastructure.resultannouncer.cache.ResultsBatchLookup;
+
+import javax.validation.Valid;
+import java.time.LocalDateTime;
 
 @RestController
 @AllArgsConstructor
 public class ResultAnnouncerRestController {
 
     ResultAnnouncerFacade resultAnnouncerFacade;
+    ResultsBatchLookup resultsBatchLookup;
+    NumberReceiverFacade numberReceiverFacade;
 
     @GetMapping("/results/{id}")
-    public ResponseEntity<ResultAnnouncerResponseDto> checkResultsById(@PathVariable String id) {
-        ResultAnnouncerResponseDto resultAnnouncerResponseDto = resultAnnouncerFacade.checkResult(id);
+    public ResponseEntity<ResultAnnouncerResponseDto> checkResultsById(@PathVariable String id,
+                                                                       @RequestParam(required = false)
+                                                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                                       LocalDateTime drawDate) {
+        String resultId = drawDate == null ? id : DrawTicketId.of(id, DrawId.of(drawDate));
+        if (!numberReceiverFacade.mightHaveIssued(resultId)) {
+            throw PlayerResultNotFoundException.forTicketId(resultId);
+        }
+        ResultAnnouncerResponseDto resultAnnouncerResponseDto = resultAnnouncerFacade.checkResult(resultId);
         return ResponseEntity.ok(resultAnnouncerResponseDto);
     }
+
+    @PostMapping("/results/batch")
+    public ResponseEntity<ResultAnnouncerBatchResponseDto> checkResultsBatch(@RequestBody @Valid ResultsBatchRequestDto requestDto) {
+        return ResponseEntity.ok(resultsBatchLookup.checkResults(requestDto.hashes()));
+    }
 }
@@ -0,0 +1,11 @@
+package pl.lotto.infrastructure.resultannouncer.controller;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+public record ResultsBatchRequestDto(
+        @NotNull(message = "{hashes.not.null}")
+        @NotEmpty(message = "{hashes.not.empty}")
+        List<String> hashes) {
+}
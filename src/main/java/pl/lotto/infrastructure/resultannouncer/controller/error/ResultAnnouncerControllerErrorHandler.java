@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import pl.lotto.domain.resultannouncer.ResultBatchTooLargeException;
 import pl.lotto.domain.resultchecker.PlayerResultNotFoundException;
 
 @ControllerAdvice
@@ -17,7 +18,16 @@ public class ResultAnnouncerControllerErrorHandler {
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResultAnnouncerErrorResponse handlePlayerResultNotFound(PlayerResultNotFoundException exception) {
         String message = exception.getMessage();
-        log.error(message);
+        log.debug(message);
         return new ResultAnnouncerErrorResponse(message, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(ResultBatchTooLargeException.class)
+    @ResponseBody
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ResultAnnouncerErrorResponse handleResultBatchTooLarge(ResultBatchTooLargeException exception) {
+        String message = exception.getMessage();
+        log.warn(message);
+        return new ResultAnnouncerErrorResponse(message, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
 }
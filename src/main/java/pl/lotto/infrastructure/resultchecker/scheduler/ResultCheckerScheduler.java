@@ -6,7 +6,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import pl.lotto.domain.numbergenerator.WinningNumbersGeneratorFacade;
 import pl.lotto.domain.resultchecker.ResultCheckerFacade;
-import pl.lotto.domain.resultchecker.dto.PlayersDto;
+import pl.lotto.domain.resultchecker.dto.DrawResultsSummaryDto;
+import pl.lotto.infrastructure.resultannouncer.cache.ResultsReadModelPublisher;
 
 @Component
 @Log4j2
@@ -15,15 +16,19 @@ public class ResultCheckerScheduler {
 
     private final ResultCheckerFacade resultCheckerFacade;
     private final WinningNumbersGeneratorFacade winningNumbersGeneratorFacade;
+    private final ResultsReadModelPublisher resultsReadModelPublisher;
 
     @Scheduled(cron = "${lotto.result-checker.lotteryRunOccurrence}")
-    public PlayersDto generateWinners() {
+    public DrawResultsSummaryDto generateWinners() {
         log.info("ResultCheckerScheduler started...");
         if (!winningNumbersGeneratorFacade.areWinningNumbersGeneratedByDate()) {
             log.error("Winning numbers are not generated");
             throw new RuntimeException("Winning numbers are not generated");
         }
         log.info("Winning numbers has been fetched");
-        return resultCheckerFacade.generateResults();
+        DrawResultsSummaryDto summary = resultCheckerFacade.generateResultsSummary(resultsReadModelPublisher::publish);
+        log.info("Evaluated {} tickets for draw {}, winners: {}", summary.evaluatedTickets(), summary.drawDate(), summary.winners());
+        resultsReadModelPublisher.announce(summary.drawDate());
+        return summary;
     }
 }
@@ -57,6 +57,11 @@ public class SecurityConfig {
                 .antMatchers("/register/**").permitAll()
                 .antMatchers("/swagger-resources/**").permitAll()
                 .antMatchers("/inputNumbers").authenticated()
+                .antMatchers("/inputNumbers/batch").authenticated()
+                .antMatchers("/inputNumbers/stream").authenticated()
+                .antMatchers("/inputNumbers/quickPick").authenticated()
+                .antMatchers("/inputNumbers/subscription").authenticated()
+                .antMatchers("/tickets").authenticated()
                 .antMatchers("/results/**").authenticated()
                 .anyRequest().authenticated()
                 .and()
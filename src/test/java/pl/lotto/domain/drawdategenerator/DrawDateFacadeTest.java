@@ -3,6 +3,7 @@ package pl.lotto.domain.drawdategenerator;
 import org.junit.jupiter.api.Test;
 import pl.lotto.domain.AdjustableClock;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Set;
@@ -14,7 +15,7 @@ class DrawDateFacadeTest {
     ZoneId warsawZone = ZoneId.of("Europe/Warsaw");
     AdjustableClock clock = new AdjustableClock(LocalDateTime.of(2023, 11, 4, 14, 0, 0)
             .atZone(warsawZone).toInstant(), warsawZone);
-    DrawDateFacade drawDateFacade = new DrawDateFacade(new DrawDateGeneratorTestImpl(clock));
+    DrawDateFacade drawDateFacade = new DrawDateFacade(new DrawDateGeneratorTestImpl(clock), clock);
 
     @Test
     public void should_return_correct_draw_date() {
@@ -51,4 +52,39 @@ class DrawDateFacadeTest {
         assertThat(localDateTime).isEqualTo(expectedDate);
     }
 
+    @Test
+    public void should_roll_over_to_next_draw_when_clock_passes_draw_cutoff() {
+        //given
+        clock.setClockToLocalDateTime(LocalDateTime.of(2023, 11, 11, 11, 59));
+        LocalDateTime currentDrawDate = drawDateFacade.getNextDrawDate();
+        //when
+        clock.setClockToLocalDateTime(LocalDateTime.of(2023, 11, 11, 12, 0));
+        LocalDateTime nextDrawDate = drawDateFacade.getNextDrawDate();
+        //then
+        assertThat(currentDrawDate).isEqualTo(LocalDateTime.of(2023, 11, 11, 12, 0, 0));
+        assertThat(nextDrawDate).isEqualTo(LocalDateTime.of(2023, 11, 18, 12, 0, 0));
+    }
+
+    @Test
+    public void should_return_draw_cutoff_of_current_draw() {
+        //given
+        clock.setClockToLocalDateTime(LocalDateTime.of(2023, 11, 8, 9, 30));
+        //when
+        Instant cutoff = drawDateFacade.getNextDrawCutoff();
+        //then
+        Instant expectedCutoff = LocalDateTime.of(2023, 11, 11, 12, 0, 0).atZone(warsawZone).toInstant();
+        assertThat(cutoff).isEqualTo(expectedCutoff);
+    }
+
+    @Test
+    public void should_reopen_earlier_draw_when_clock_is_moved_back() {
+        //given
+        clock.setClockToLocalDateTime(LocalDateTime.of(2023, 11, 20, 10, 0));
+        drawDateFacade.rollOver();
+        //when
+        clock.setClockToLocalDateTime(LocalDateTime.of(2023, 11, 6, 10, 0));
+        LocalDateTime drawDate = drawDateFacade.getNextDrawDate();
+        //then
+        assertThat(drawDate).isEqualTo(LocalDateTime.of(2023, 11, 11, 12, 0, 0));
+    }
 }
@@ -132,6 +132,21 @@ public class WinningNumbersGeneratorFacadeTest {
         assertTrue(areWinningNumbersGeneratedByDate);
 
     }
-}
-
 
+    @Test
+    public void it_should_return_already_generated_winning_numbers_when_generating_again_for_the_same_draw() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2022, 12, 17, 12, 0, 0);
+        when(numberReceiverFacade.retrieveNextDrawDate()).thenReturn(drawDate);
+        WinningNumbersGeneratorFacade firstGenerator = new NumberGeneratorConfiguration()
+                .createForTest(new WinningNumberGeneratorTestImpl(Set.of(1, 2, 3, 4, 5, 6)), winningNumbersRepository, numberReceiverFacade);
+        WinningNumbersGeneratorFacade secondGenerator = new NumberGeneratorConfiguration()
+                .createForTest(new WinningNumberGeneratorTestImpl(Set.of(7, 8, 9, 10, 11, 12)), winningNumbersRepository, numberReceiverFacade);
+        WinningNumbersDto firstNumbers = firstGenerator.generateWinningNumbers();
+        //when
+        WinningNumbersDto secondNumbers = secondGenerator.generateWinningNumbers();
+        //then
+        assertThat(secondNumbers.getWinningNumbers()).isEqualTo(firstNumbers.getWinningNumbers());
+        assertThat(secondNumbers.getDate()).isEqualTo(drawDate);
+    }
+}
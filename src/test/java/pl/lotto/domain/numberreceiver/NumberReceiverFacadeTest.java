@@ -1,15 +1,45 @@
 package pl.lotto.domain.numberreceiver;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.lotto.domain.common.BulkWriteBatchReport;
+import pl.lotto.domain.common.BulkWriteReport;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.DrawTicketId;
+import pl.lotto.domain.common.NumbersMask;
 import pl.lotto.domain.AdjustableClock;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverBatchResponseDto;
 import pl.lotto.domain.numberreceiver.dto.NumberReceiverResponseDto;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverSubscriptionResponseDto;
+import pl.lotto.domain.numberreceiver.dto.OwnerTicketDto;
+import pl.lotto.domain.numberreceiver.dto.OwnerTicketsPageDto;
+import pl.lotto.domain.numberreceiver.dto.SubscriptionDto;
 import pl.lotto.domain.numberreceiver.dto.TicketDto;
+import pl.lotto.domain.numberreceiver.dto.TicketResultStatus;
 
+import java.nio.file.Path;
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class NumberReceiverFacadeTest {
 
@@ -20,10 +50,9 @@ public class NumberReceiverFacadeTest {
     public void it_should_return_correct_response_when_user_input_six_numbers_in_range() {
         // given
         HashGenerable hashGenerator = new HashGeneratorTestImpl();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5, 6);
-        DrawDateGenerator drawDateGenerator = new DrawDateGenerator(clock);
-        LocalDateTime nextDrawDate = drawDateGenerator.getNextDrawDate();
+        LocalDateTime nextDrawDate = numberReceiverFacade.retrieveNextDrawDate();
 
         TicketDto generatedTicket = TicketDto.builder()
                 .hash(hashGenerator.getHash())
@@ -43,7 +72,7 @@ public class NumberReceiverFacadeTest {
     public void it_should_return_failed_message_when_user_input_six_numbers_but_one_number_is_out_of_range() {
         // given
         HashGenerator hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5, 100);
 
         // when
@@ -58,7 +87,7 @@ public class NumberReceiverFacadeTest {
     public void it_should_return_failed_message_when_user_input_six_numbers_but_one_number_is_out_of_range_and_is_negative() {
         // given
         HashGenerator hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, -4, 5, 6);
 
         // when
@@ -73,7 +102,7 @@ public class NumberReceiverFacadeTest {
     public void it_should_return_failed_message_when_user_input_less_than_six_numbers() {
         // given
         HashGenerator hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5);
 
         // when
@@ -88,7 +117,7 @@ public class NumberReceiverFacadeTest {
     public void it_should_return_failed_message_when_user_input_more_than_six_numbers() {
         // given
         HashGenerator hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5, 6, 7);
 
         // when
@@ -103,7 +132,7 @@ public class NumberReceiverFacadeTest {
     public void it_should_return_correct_hash() {
         // given
         HashGenerable hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5, 6);
 
         // when
@@ -119,7 +148,7 @@ public class NumberReceiverFacadeTest {
         // given
         Clock clock = Clock.fixed(LocalDateTime.of(2022, 11, 19, 10, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
         HashGenerable hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5, 6);
 
         // when
@@ -135,7 +164,7 @@ public class NumberReceiverFacadeTest {
         // given
         Clock clock = Clock.fixed(LocalDateTime.of(2022, 11, 19, 12, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
         HashGenerable hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5, 6);
 
         // when
@@ -153,7 +182,7 @@ public class NumberReceiverFacadeTest {
         // given
         Clock clock = Clock.fixed(LocalDateTime.of(2022, 11, 19, 14, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
         HashGenerable hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         Set<Integer> numbersFromUser = Set.of(1, 2, 3, 4, 5, 6);
 
         // when
@@ -174,7 +203,7 @@ public class NumberReceiverFacadeTest {
         Instant fixedInstant = LocalDateTime.of(2022, 12, 15, 12, 0, 0).toInstant(ZoneOffset.UTC);
         ZoneId of = ZoneId.of("Europe/London");
         AdjustableClock clock = new AdjustableClock(fixedInstant, of);
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         NumberReceiverResponseDto numberReceiverResponseDto = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6));
         clock.plusDays(1);
         NumberReceiverResponseDto numberReceiverResponseDto1 = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6));
@@ -196,7 +225,7 @@ public class NumberReceiverFacadeTest {
         // given
         HashGenerable hashGenerator = new HashGenerator();
         Clock clock = Clock.fixed(LocalDateTime.of(2022, 12, 15, 12, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         LocalDateTime drawDate = LocalDateTime.now(clock);
 
         // when
@@ -211,7 +240,7 @@ public class NumberReceiverFacadeTest {
         HashGenerable hashGenerator = new HashGenerator();
 
         Clock clock = Clock.fixed(LocalDateTime.of(2022, 12, 15, 12, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
         NumberReceiverResponseDto numberReceiverResponseDto = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6));
 
         LocalDateTime drawDate = numberReceiverResponseDto.ticketDto().drawDate();
@@ -226,7 +255,7 @@ public class NumberReceiverFacadeTest {
         // given
         Clock clock = Clock.fixed(LocalDateTime.of(2022, 11, 19, 10, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
         HashGenerable hashGenerator = new HashGenerator();
-        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().numberReceiverFacade(hashGenerator, clock, ticketRepository);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
 
         // when
         LocalDateTime testedDrawDate = numberReceiverFacade.retrieveNextDrawDate();
@@ -235,4 +264,582 @@ public class NumberReceiverFacadeTest {
         LocalDateTime expectedDrawDate = LocalDateTime.of(2022, 11, 19, 12, 0, 0);
         assertThat(testedDrawDate).isEqualTo(expectedDrawDate);
     }
+
+    @Test
+    public void it_should_pass_tickets_of_draw_to_consumer_in_batches_of_given_size() {
+        // given
+        HashGenerable hashGenerator = new HashGenerator();
+        Clock clock = Clock.fixed(LocalDateTime.of(2022, 11, 16, 10, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository);
+        for (int i = 0; i < 5; i++) {
+            numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6));
+        }
+        LocalDateTime drawDate = numberReceiverFacade.retrieveNextDrawDate();
+        List<Integer> batchSizes = new ArrayList<>();
+
+        // when
+        long ticketsCount = numberReceiverFacade.forEachTicketBatchByDrawDate(drawDate, 2, batch -> batchSizes.add(batch.size()));
+
+        // then
+        assertThat(ticketsCount).isEqualTo(5);
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    public void it_should_return_unique_time_ordered_url_safe_hashes_when_tickets_are_input_from_many_threads() throws InterruptedException {
+        // given
+        Clock fixedClock = Clock.fixed(LocalDateTime.of(2022, 11, 16, 10, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
+        HashGenerable hashGenerator = new NumberReceiverConfiguration().hashGenerable(fixedClock);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, fixedClock, ticketRepository);
+        List<String> hashes = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> hashes.add(numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6)).ticketDto().hash()));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(hashes).hasSize(1000).doesNotHaveDuplicates();
+        assertThat(hashes).allMatch(hash -> hash.matches("[0-9A-HJKMNP-TV-Z]{26}"));
+        String hashCreatedLater = hashGenerator.getHash();
+        assertThat(hashes).allMatch(hash -> hash.compareTo(hashCreatedLater) < 0);
+    }
+
+    @Test
+    public void it_should_commit_journaled_tickets_to_repository_when_pending_tickets_are_flushed(@TempDir Path journalDirectory) {
+        // given
+        HashGenerable hashGenerator = new HashGenerator();
+        TicketWriter ticketWriter = new JournaledTicketWriter(ticketRepository, journalDirectory.resolve("journal.log"), 10, 5, 100);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(hashGenerator, clock, ticketRepository, ticketWriter);
+        String hash = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6)).ticketDto().hash();
+        for (int i = 0; i < 24; i++) {
+            numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6));
+        }
+        LocalDateTime drawDate = numberReceiverFacade.retrieveNextDrawDate();
+
+        // when
+        numberReceiverFacade.flushPendingTickets();
+
+        // then
+        assertThat(numberReceiverFacade.retrieveAllTicketsByNextDrawDate(drawDate)).hasSize(25);
+        assertThat(numberReceiverFacade.findByHash(hash).numbers()).isEqualTo(Set.of(1, 2, 3, 4, 5, 6));
+        ticketWriter.close();
+    }
+
+    @Test
+    public void it_should_replay_journaled_tickets_on_startup_when_they_were_not_committed_before_shutdown(@TempDir Path journalDirectory) {
+        // given
+        Path journal = journalDirectory.resolve("journal.log");
+        TicketRepository unavailableRepository = new TicketRepositoryTestImpl() {
+            @Override
+            public BulkWriteReport insertAllUnordered(Collection<Ticket> ticketsToInsert) {
+                throw new IllegalStateException("Mongo unavailable");
+            }
+        };
+        TicketWriter ticketWriter = new JournaledTicketWriter(unavailableRepository, journal, 10, 1, 100);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, unavailableRepository, ticketWriter);
+        String hash = numberReceiverFacade.inputNumbers(Set.of(7, 8, 9, 10, 11, 12)).ticketDto().hash();
+        ticketWriter.close();
+
+        // when
+        new JournaledTicketWriter(ticketRepository, journal, 10, 1, 100).close();
+
+        // then
+        NumberReceiverFacade restartedFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        assertThat(restartedFacade.findByHash(hash).numbers()).isEqualTo(Set.of(7, 8, 9, 10, 11, 12));
+    }
+
+    @Test
+    public void it_should_keep_retrying_journaled_tickets_a_bulk_insert_reports_as_failed(@TempDir Path journalDirectory) {
+        // given
+        TicketRepository flakyRepository = new TicketRepositoryTestImpl() {
+            private boolean failed;
+
+            @Override
+            public BulkWriteReport insertAllUnordered(Collection<Ticket> ticketsToInsert) {
+                if (failed) {
+                    return super.insertAllUnordered(ticketsToInsert);
+                }
+                failed = true;
+                return new BulkWriteReport(List.of(BulkWriteBatchReport.builder()
+                        .size(ticketsToInsert.size())
+                        .failed(ticketsToInsert.size())
+                        .latency(Duration.ZERO)
+                        .retryable(List.copyOf(ticketsToInsert))
+                        .build()));
+            }
+        };
+        TicketWriter ticketWriter = new JournaledTicketWriter(flakyRepository, journalDirectory.resolve("journal.log"), 10, 1, 100);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, flakyRepository, ticketWriter);
+        String hash = numberReceiverFacade.inputNumbers(Set.of(7, 8, 9, 10, 11, 12)).ticketDto().hash();
+
+        // when
+        ticketWriter.flush();
+        ticketWriter.close();
+
+        // then
+        assertThat(flakyRepository.findByHash(hash)).isNotNull();
+    }
+
+    @Test
+    public void it_should_return_results_in_request_order_and_save_only_valid_tickets_of_batch() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        List<Set<Integer>> batch = List.of(
+                Set.of(1, 2, 3, 4, 5, 6),
+                Set.of(1, 2, 3),
+                Set.of(10, 20, 30, 40, 50, 60));
+
+        // when
+        NumberReceiverBatchResponseDto response = numberReceiverFacade.inputNumbersBatch(batch);
+
+        // then
+        assertThat(response.accepted()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(response.results()).extracting(NumberReceiverResponseDto::message)
+                .containsExactly("SUCCESS", "YOU SHOULD GIVE 6 NUMBERS", "SUCCESS");
+        assertThat(response.results().get(2).ticketDto().numbers()).isEqualTo(Set.of(10, 20, 30, 40, 50, 60));
+        LocalDateTime drawDate = response.results().get(0).ticketDto().drawDate();
+        assertThat(numberReceiverFacade.retrieveAllTicketsByNextDrawDate(drawDate)).hasSize(2);
+    }
+
+    @Test
+    public void it_should_report_tickets_of_batch_the_bulk_insert_failed_to_save_as_errors() {
+        // given
+        TicketRepository partiallyFailingRepository = failingInsertsOf(Set.of(10, 20, 30, 40, 50, 60));
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, partiallyFailingRepository);
+        List<Set<Integer>> batch = List.of(
+                Set.of(1, 2, 3, 4, 5, 6),
+                Set.of(10, 20, 30, 40, 50, 60),
+                Set.of(1, 2, 3));
+
+        // when
+        NumberReceiverBatchResponseDto response = numberReceiverFacade.inputNumbersBatch(batch);
+
+        // then
+        assertThat(response.accepted()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(2);
+        assertThat(response.results()).extracting(NumberReceiverResponseDto::message)
+                .containsExactly("SUCCESS", "TICKET COULD NOT BE SAVED, PLEASE TRY AGAIN", "YOU SHOULD GIVE 6 NUMBERS");
+        assertThat(response.results().get(1).ticketDto()).isNull();
+        LocalDateTime drawDate = response.results().get(0).ticketDto().drawDate();
+        assertThat(numberReceiverFacade.retrieveAllTicketsByNextDrawDate(drawDate)).hasSize(1);
+    }
+
+    @Test
+    public void it_should_report_quick_picks_the_bulk_insert_failed_to_save_as_errors() {
+        // given
+        TicketRepository failingRepository = new TicketRepositoryTestImpl() {
+            @Override
+            public BulkWriteReport insertAllUnordered(Collection<Ticket> ticketsToInsert) {
+                return failedReportOf(List.copyOf(ticketsToInsert));
+            }
+        };
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, failingRepository);
+
+        // when
+        NumberReceiverBatchResponseDto response = numberReceiverFacade.inputQuickPicks(3, "player");
+
+        // then
+        assertThat(response.accepted()).isZero();
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.results()).extracting(NumberReceiverResponseDto::message)
+                .containsOnly("TICKET COULD NOT BE SAVED, PLEASE TRY AGAIN");
+        assertThat(numberReceiverFacade.retrieveTicketsOfOwner("player", null, 10).tickets()).isEmpty();
+    }
+
+    @Test
+    public void it_should_throw_exception_when_batch_exceeds_max_batch_size() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        List<Set<Integer>> batch = Collections.nCopies(1001, Set.of(1, 2, 3, 4, 5, 6));
+
+        // when
+        // then
+        assertThrows(TicketBatchTooLargeException.class, () -> numberReceiverFacade.inputNumbersBatch(batch));
+    }
+
+    @Test
+    public void it_should_return_validation_message_of_own_numbers_when_many_threads_input_numbers_concurrently() throws InterruptedException {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        Map<Set<Integer>, String> expectedMessages = Map.of(
+                Set.of(1, 2, 3, 4, 5, 6), ValidationResult.INPUT_SUCCESS.info,
+                Set.of(1, 2, 3, 4, 5), ValidationResult.NOT_SIX_NUMBERS_GIVEN.info,
+                Set.of(1, 2, 3, 4, 5, 100), ValidationResult.NOT_IN_RANGE.info,
+                Set.of(0, 100), ValidationResult.NOT_SIX_NUMBERS_GIVEN.info + "," + ValidationResult.NOT_IN_RANGE.info);
+        List<Set<Integer>> inputs = new ArrayList<>(expectedMessages.keySet());
+        List<String> mismatches = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            Set<Integer> numbers = inputs.get(i % inputs.size());
+            executor.submit(() -> {
+                String message = numberReceiverFacade.inputNumbers(numbers).message();
+                if (!expectedMessages.get(numbers).equals(message)) {
+                    mismatches.add(numbers + " -> " + message);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    public void it_should_return_original_ticket_without_saving_again_when_idempotency_key_is_repeated() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        TicketDto originalTicket = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player").ticketDto();
+
+        // when
+        NumberReceiverResponseDto retryResponse = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player");
+        NumberReceiverResponseDto otherKeyResponse = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "other-key", "player");
+
+        // then
+        assertThat(retryResponse.ticketDto()).isEqualTo(originalTicket);
+        assertThat(retryResponse.message()).isEqualTo(ValidationResult.INPUT_SUCCESS.info);
+        assertThat(otherKeyResponse.ticketDto().hash()).isNotEqualTo(originalTicket.hash());
+        assertThat(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).hasSize(2);
+    }
+
+    @Test
+    public void it_should_save_one_ticket_and_return_it_to_every_concurrent_retry_with_same_idempotency_key() throws InterruptedException {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        Set<String> returnedHashes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // when
+        for (int i = 0; i < 64; i++) {
+            executor.submit(() -> returnedHashes.add(
+                    numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player").ticketDto().hash()));
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        // then
+        assertThat(returnedHashes).hasSize(1);
+        assertThat(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).hasSize(1);
+    }
+
+    @Test
+    public void it_should_return_original_ticket_when_idempotency_key_was_stored_by_another_instance() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        TicketDto firstTicket = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "first-key", "player").ticketDto();
+        Ticket otherInstanceTicket = Ticket.builder()
+                .hash("other-instance-hash")
+                .numbers(NumbersMask.of(Set.of(1, 2, 3, 4, 5, 6)))
+                .drawId(DrawId.of(firstTicket.drawDate()))
+                .idempotencyKey("retry-key")
+                .ownerId("player")
+                .build();
+        ticketRepository.insertIntoDraw(otherInstanceTicket);
+
+        // when
+        NumberReceiverResponseDto response = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player");
+
+        // then
+        assertThat(response.ticketDto().hash()).isEqualTo("other-instance-hash");
+        assertThat(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).hasSize(2);
+    }
+
+    @Test
+    public void it_should_recognize_idempotency_keys_of_stored_tickets_after_restart() {
+        // given
+        new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository)
+                .inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player");
+        NumberReceiverFacade restartedFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+
+        // when
+        restartedFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player");
+
+        // then
+        assertThat(restartedFacade.retrieveAllTicketsByNextDrawDate()).hasSize(1);
+    }
+
+    @Test
+    public void it_should_return_original_ticket_when_idempotency_key_is_repeated_before_journaled_ticket_is_committed(@TempDir Path journalDirectory) {
+        // given
+        CountDownLatch commitGate = new CountDownLatch(1);
+        TicketRepository gatedRepository = new TicketRepositoryTestImpl() {
+            @Override
+            public BulkWriteReport insertAllUnordered(Collection<Ticket> ticketsToInsert) {
+                try {
+                    commitGate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insertAllUnordered(ticketsToInsert);
+            }
+        };
+        TicketWriter ticketWriter = new JournaledTicketWriter(gatedRepository, journalDirectory.resolve("tickets.log"), 1000, 5, 1000);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, gatedRepository, ticketWriter);
+        TicketDto originalTicket = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player").ticketDto();
+
+        // when
+        TicketDto retriedTicket = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), "retry-key", "player").ticketDto();
+        commitGate.countDown();
+        ticketWriter.close();
+
+        // then
+        assertThat(retriedTicket).isEqualTo(originalTicket);
+        assertThat(gatedRepository.findAllTicketsByDrawId(DrawId.of(originalTicket.drawDate()))).hasSize(1);
+    }
+
+    @Test
+    public void it_should_close_idle_journal_without_waiting_for_flush_interval(@TempDir Path journalDirectory) {
+        // given
+        TicketWriter ticketWriter = new JournaledTicketWriter(ticketRepository, journalDirectory.resolve("tickets.log"), 1000, 60_000, 1000);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository, ticketWriter);
+        String hash = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6)).ticketDto().hash();
+
+        // when
+        // then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), ticketWriter::close);
+        assertThat(ticketRepository.findByHash(hash)).isNotNull();
+    }
+
+    @Test
+    public void it_should_rule_out_unknown_hashes_created_before_issued_ticket_filter_was_seeded_after_restart() {
+        // given
+        AdjustableClock clock = new AdjustableClock(LocalDateTime.of(2022, 12, 15, 12, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.of("Europe/London"));
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        String ticketHash = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6)).ticketDto().hash();
+        String subscriptionHash = numberReceiverFacade.inputSubscription(Set.of(1, 2, 3, 4, 5, 6), 2).subscriptionDto().hash();
+        String neverIssuedHash = new TimeOrderedHashGenerator(clock).getHash();
+        clock.advanceInTimeBy(Duration.ofMinutes(5));
+        NumberReceiverFacade restartedFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+        boolean unknownBeforeRebuild = restartedFacade.mightHaveIssued(neverIssuedHash);
+
+        // when
+        restartedFacade.rebuildIssuedTicketFilter();
+        String laterTicketHash = restartedFacade.inputQuickPicks(1, "player").results().get(0).ticketDto().hash();
+        String issuedByOtherInstanceHash = new TimeOrderedHashGenerator(clock).getHash();
+
+        // then
+        assertThat(unknownBeforeRebuild).isTrue();
+        assertThat(restartedFacade.mightHaveIssued(ticketHash)).isTrue();
+        assertThat(restartedFacade.mightHaveIssued(DrawTicketId.of(subscriptionHash, DrawId.of(restartedFacade.retrieveNextDrawDate())))).isTrue();
+        assertThat(restartedFacade.mightHaveIssued(laterTicketHash)).isTrue();
+        assertThat(restartedFacade.mightHaveIssued(issuedByOtherInstanceHash)).isTrue();
+        assertThat(restartedFacade.mightHaveIssued("legacy-hash")).isTrue();
+        assertThat(restartedFacade.mightHaveIssued(neverIssuedHash)).isFalse();
+    }
+
+    @Test
+    public void it_should_save_requested_number_of_quick_pick_tickets_with_six_distinct_numbers_in_range() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+
+        // when
+        NumberReceiverBatchResponseDto response = numberReceiverFacade.inputQuickPicks(500, "player");
+
+        // then
+        assertThat(response.accepted()).isEqualTo(500);
+        assertThat(response.results()).allSatisfy(result -> {
+            assertThat(result.message()).isEqualTo(ValidationResult.INPUT_SUCCESS.info);
+            assertThat(result.ticketDto().numbers()).hasSize(6).allSatisfy(number -> assertThat(number).isBetween(1, 99));
+        });
+        assertThat(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).hasSize(500);
+    }
+
+    @Test
+    public void it_should_throw_exception_when_quick_pick_count_exceeds_max_batch_size() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+
+        // when
+        // then
+        assertThrows(TicketBatchTooLargeException.class, () -> numberReceiverFacade.inputQuickPicks(1001, "player"));
+    }
+
+    @Test
+    public void it_should_include_subscription_stored_once_in_every_covered_draw() {
+        // given
+        AdjustableClock adjustableClock = new AdjustableClock(LocalDateTime.of(2022, 11, 16, 10, 0)
+                .toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), adjustableClock, ticketRepository);
+        NumberReceiverSubscriptionResponseDto subscription = numberReceiverFacade.inputSubscription(Set.of(1, 2, 3, 4, 5, 6), 2);
+        String hash = subscription.subscriptionDto().hash();
+        LocalDateTime firstDrawDate = LocalDateTime.of(2022, 11, 19, 12, 0);
+        LocalDateTime lastDrawDate = LocalDateTime.of(2022, 11, 26, 12, 0);
+
+        // when
+        List<TicketDto> firstDrawTickets = numberReceiverFacade.retrieveAllTicketsByNextDrawDate();
+        adjustableClock.plusDays(7);
+        List<TicketDto> lastDrawTickets = new ArrayList<>();
+        numberReceiverFacade.forEachTicketBatchByDrawDate(lastDrawDate, 10, lastDrawTickets::addAll);
+        adjustableClock.plusDays(7);
+        List<TicketDto> laterDrawTickets = numberReceiverFacade.retrieveAllTicketsByNextDrawDate();
+
+        // then
+        assertThat(subscription.subscriptionDto().firstDrawDate()).isEqualTo(firstDrawDate);
+        assertThat(subscription.subscriptionDto().lastDrawDate()).isEqualTo(lastDrawDate);
+        assertThat(firstDrawTickets).extracting(TicketDto::hash).containsExactly(DrawTicketId.of(hash, DrawId.of(firstDrawDate)));
+        assertThat(lastDrawTickets).extracting(TicketDto::hash).containsExactly(DrawTicketId.of(hash, DrawId.of(lastDrawDate)));
+        assertThat(lastDrawTickets.get(0).drawDate()).isEqualTo(lastDrawDate);
+        assertThat(laterDrawTickets).isEmpty();
+        assertThat(ticketRepository.streamAllSubscriptionsCoveringDraw(DrawId.of(firstDrawDate))).hasSize(1);
+    }
+
+    @Test
+    public void it_should_return_failed_message_when_subscription_draws_are_out_of_range() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, ticketRepository);
+
+        // when
+        NumberReceiverSubscriptionResponseDto response = numberReceiverFacade.inputSubscription(Set.of(1, 2, 3, 4, 5, 6), 53);
+
+        // then
+        assertThat(response.subscriptionDto()).isNull();
+        assertThat(response.message()).isEqualTo("YOU SHOULD SUBSCRIBE FOR 1 TO 52 DRAWS");
+    }
+
+    @Test
+    public void it_should_page_owner_tickets_newest_first_by_seeking_past_last_returned_hash() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(
+                new TimeOrderedHashGenerator(clock), clock, ticketRepository);
+        List<String> ownerHashes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ownerHashes.add(numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), null, "owner").ticketDto().hash());
+        }
+        numberReceiverFacade.inputNumbersBatch(List.of(Set.of(1, 2, 3, 4, 5, 6)), "other-owner");
+        Collections.reverse(ownerHashes);
+
+        // when
+        OwnerTicketsPageDto firstPage = numberReceiverFacade.retrieveTicketsOfOwner("owner", null, 3);
+        OwnerTicketsPageDto secondPage = numberReceiverFacade.retrieveTicketsOfOwner("owner", firstPage.nextCursor(), 3);
+
+        // then
+        assertThat(firstPage.tickets()).extracting(OwnerTicketDto::hash).containsExactlyElementsOf(ownerHashes.subList(0, 3));
+        assertThat(firstPage.nextCursor()).isEqualTo(ownerHashes.get(2));
+        assertThat(secondPage.tickets()).extracting(OwnerTicketDto::hash).containsExactlyElementsOf(ownerHashes.subList(3, 5));
+        assertThat(secondPage.nextCursor()).isNull();
+        assertThat(secondPage.tickets()).extracting(OwnerTicketDto::status).containsOnly(TicketResultStatus.PENDING);
+    }
+
+    @Test
+    public void it_should_list_owner_tickets_still_pending_in_journal_among_stored_ones(@TempDir Path journalDirectory) {
+        // given
+        TicketRepository unavailableRepository = new TicketRepositoryTestImpl() {
+            @Override
+            public BulkWriteReport insertAllUnordered(Collection<Ticket> ticketsToInsert) {
+                throw new IllegalStateException("Mongo unavailable");
+            }
+        };
+        TicketWriter ticketWriter = new JournaledTicketWriter(unavailableRepository, journalDirectory.resolve("journal.log"), 10, 1, 100);
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock, unavailableRepository, ticketWriter);
+        TicketDto pendingTicket = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), null, "owner").ticketDto();
+        numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), null, "other-owner");
+        unavailableRepository.insert(Ticket.builder()
+                .hash("stored")
+                .numbers(NumbersMask.of(Set.of(7, 8, 9, 10, 11, 12)))
+                .drawId(DrawId.of(pendingTicket.drawDate()))
+                .ownerId("owner")
+                .build());
+
+        // when
+        OwnerTicketsPageDto page = numberReceiverFacade.retrieveTicketsOfOwner("owner", null, 10);
+        OwnerTicketsPageDto pageAfterStored = numberReceiverFacade.retrieveTicketsOfOwner("owner", "stored", 10);
+
+        // then
+        assertThat(page.tickets()).extracting(OwnerTicketDto::hash).containsExactly("stored", pendingTicket.hash());
+        assertThat(pageAfterStored.tickets()).extracting(OwnerTicketDto::hash).containsExactly(pendingTicket.hash());
+        assertThat(unavailableRepository.findByHash(pendingTicket.hash())).isNull();
+        ticketWriter.close();
+    }
+
+    @Test
+    public void it_should_list_owner_subscription_once_per_covered_draw_among_owner_tickets() {
+        // given
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(
+                new TimeOrderedHashGenerator(clock), clock, ticketRepository);
+        String ticketHash = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6), null, "owner").ticketDto().hash();
+        SubscriptionDto subscription = numberReceiverFacade.inputSubscription(Set.of(7, 8, 9, 10, 11, 12), 2, "owner").subscriptionDto();
+        numberReceiverFacade.inputSubscription(Set.of(7, 8, 9, 10, 11, 12), 2, "other-owner");
+
+        // when
+        OwnerTicketsPageDto page = numberReceiverFacade.retrieveTicketsOfOwner("owner", null, 10);
+
+        // then
+        assertThat(page.tickets()).extracting(OwnerTicketDto::hash).containsExactly(
+                DrawTicketId.of(subscription.hash(), DrawId.of(subscription.lastDrawDate())),
+                DrawTicketId.of(subscription.hash(), DrawId.of(subscription.firstDrawDate())),
+                ticketHash);
+        assertThat(page.tickets()).extracting(OwnerTicketDto::drawDate)
+                .containsExactly(subscription.lastDrawDate(), subscription.firstDrawDate(), subscription.firstDrawDate());
+    }
+
+    @Test
+    public void it_should_serve_ticket_read_right_after_write_from_lookup_cache_and_count_hits_and_misses() {
+        // given
+        TicketRepository countingRepository = spy(new TicketRepositoryTestImpl());
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock,
+                countingRepository, new RepositoryTicketWriter(countingRepository), meterRegistry);
+        TicketDto writtenTicket = numberReceiverFacade.inputNumbers(Set.of(1, 2, 3, 4, 5, 6)).ticketDto();
+        countingRepository.insert(Ticket.builder()
+                .hash("stored-before")
+                .numbers(NumbersMask.of(Set.of(7, 8, 9, 10, 11, 12)))
+                .drawId(DrawId.of(writtenTicket.drawDate()))
+                .build());
+
+        // when
+        TicketDto readTicket = numberReceiverFacade.findByHash(writtenTicket.hash());
+        numberReceiverFacade.findByHash("stored-before");
+        numberReceiverFacade.findByHash("stored-before");
+
+        // then
+        assertThat(readTicket).isEqualTo(writtenTicket);
+        verify(countingRepository, never()).findByHash(writtenTicket.hash());
+        verify(countingRepository, times(1)).findByHash("stored-before");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "ticketLookup").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "ticketLookup").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void it_should_not_cache_tickets_of_batch_the_bulk_insert_failed_to_save() {
+        // given
+        TicketRepository partiallyFailingRepository = failingInsertsOf(Set.of(10, 20, 30, 40, 50, 60));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NumberReceiverFacade numberReceiverFacade = new NumberReceiverConfiguration().createForTest(new HashGenerator(), clock,
+                partiallyFailingRepository, new RepositoryTicketWriter(partiallyFailingRepository), meterRegistry);
+
+        // when
+        numberReceiverFacade.inputNumbersBatch(List.of(Set.of(1, 2, 3, 4, 5, 6), Set.of(10, 20, 30, 40, 50, 60)));
+
+        // then
+        assertThat(meterRegistry.get("cache.size").tag("cache", "ticketLookup").gauge().value()).isEqualTo(1);
+    }
+
+    private static TicketRepository failingInsertsOf(Set<Integer> failingNumbers) {
+        return new TicketRepositoryTestImpl() {
+            @Override
+            public BulkWriteReport insertAllUnordered(Collection<Ticket> ticketsToInsert) {
+                List<Ticket> failing = ticketsToInsert.stream()
+                        .filter(ticket -> ticket.numbers().toSet().equals(failingNumbers))
+                        .toList();
+                super.insertAllUnordered(ticketsToInsert.stream().filter(ticket -> !failing.contains(ticket)).toList());
+                return failedReportOf(failing);
+            }
+        };
+    }
+
+    private static BulkWriteReport failedReportOf(List<Ticket> failing) {
+        return new BulkWriteReport(List.of(BulkWriteBatchReport.builder()
+                .size(failing.size())
+                .failed(failing.size())
+                .latency(Duration.ZERO)
+                .retryable(List.copyOf(failing))
+                .build()));
+    }
 }
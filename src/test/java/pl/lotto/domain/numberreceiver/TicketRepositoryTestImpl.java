@@ -1,43 +1,109 @@
 package pl.lotto.domain.numberreceiver;
 
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
+import pl.lotto.domain.common.BulkWriteBatchReport;
+import pl.lotto.domain.common.BulkWriteReport;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.DrawTicketId;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TicketRepositoryTestImpl implements TicketRepository {
 
     private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
 
     @Override
-    public Collection<Ticket> findAllTicketsByDrawDate(LocalDateTime drawDate) {
+    public Collection<Ticket> findAllTicketsByDrawId(int drawId) {
         return tickets.values()
                 .stream()
-                .filter(ticket -> ticket.drawDate().isEqual(drawDate))
+                .filter(ticket -> ticket.drawId() == drawId)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<Ticket> streamAllByDrawId(int drawId) {
+        return tickets.values()
+                .stream()
+                .filter(ticket -> ticket.drawId() == drawId);
+    }
+
+    @Override
+    public Subscription insertSubscription(Subscription subscription) {
+        subscriptions.put(subscription.hash(), subscription);
+        return subscription;
+    }
+
+    @Override
+    public Stream<Subscription> streamAllSubscriptionsCoveringDraw(int drawId) {
+        return subscriptions.values()
+                .stream()
+                .filter(subscription -> subscription.coversDraw(drawId));
+    }
+
+    @Override
+    public List<OwnedTicket> findPageOfOwner(String ownerId, String afterHash, int limit) {
+        Stream<OwnedTicket> ownedTickets = tickets.values()
+                .stream()
+                .filter(ticket -> ownerId.equals(ticket.ownerId()))
+                .map(ticket -> new OwnedTicket(ticket.hash(), ticket.numbers(), ticket.drawId(), null));
+        Stream<OwnedTicket> subscriptionTickets = subscriptions.values()
+                .stream()
+                .filter(subscription -> ownerId.equals(subscription.ownerId()))
+                .flatMap(subscription -> Stream.iterate(subscription.firstDrawId(), subscription::coversDraw,
+                                drawId -> DrawId.of(DrawId.toDrawDate(drawId).plusWeeks(1)))
+                        .map(drawId -> new OwnedTicket(DrawTicketId.of(subscription.hash(), drawId), subscription.numbers(), drawId, null)));
+        return Stream.concat(ownedTickets, subscriptionTickets)
+                .filter(ticket -> afterHash == null || ticket.hash().compareTo(afterHash) < 0)
+                .sorted(Comparator.comparing(OwnedTicket::hash).reversed())
+                .limit(limit)
+                .toList();
+    }
+
     @Override
     public Ticket save(Ticket ticket) {
         tickets.put(ticket.hash(), ticket);
         return ticket;
     }
 
+    @Override
+    public Ticket insertIntoDraw(Ticket ticket) {
+        synchronized (tickets) {
+            if (ticket.idempotencyKey() != null && findByDrawIdAndIdempotencyKey(ticket.drawId(), ticket.idempotencyKey()) != null) {
+                throw new DuplicateKeyException("Duplicate idempotency key " + ticket.idempotencyKey());
+            }
+            return insert(ticket);
+        }
+    }
+
     @Override
     public Ticket findByHash(String hash) {
         return tickets.get(hash);
     }
 
+    @Override
+    public Ticket findByDrawIdAndIdempotencyKey(int drawId, String idempotencyKey) {
+        return tickets.values()
+                .stream()
+                .filter(ticket -> ticket.drawId() == drawId && idempotencyKey.equals(ticket.idempotencyKey()))
+                .findFirst()
+                .orElse(null);
+    }
+
     @Override
     public <S extends Ticket> List<S> saveAll(Iterable<S> entities) {
         return null;
@@ -105,7 +171,18 @@ public class TicketRepositoryTestImpl implements TicketRepository {
 
     @Override
     public <S extends Ticket> S insert(S entity) {
-        return null;
+        tickets.put(entity.hash(), entity);
+        return entity;
+    }
+
+    @Override
+    public BulkWriteReport insertAllUnordered(Collection<Ticket> ticketsToInsert) {
+        ticketsToInsert.forEach(this::insert);
+        return new BulkWriteReport(List.of(BulkWriteBatchReport.builder()
+                .size(ticketsToInsert.size())
+                .inserted(ticketsToInsert.size())
+                .latency(Duration.ZERO)
+                .build()));
     }
 
     @Override
@@ -0,0 +1,137 @@
+package pl.lotto.domain.resultannouncer;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class DrawAnnouncementRepositoryTestImpl implements DrawAnnouncementRepository {
+
+    private final Map<Integer, DrawAnnouncement> announcements = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends DrawAnnouncement> S save(S announcement) {
+        announcements.put(announcement.drawId(), announcement);
+        return announcement;
+    }
+
+    @Override
+    public Optional<DrawAnnouncement> findById(Integer drawId) {
+        return Optional.ofNullable(announcements.get(drawId));
+    }
+
+    @Override
+    public boolean existsById(Integer drawId) {
+        return announcements.containsKey(drawId);
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> List<S> saveAll(Iterable<S> entities) {
+        return null;
+    }
+
+    @Override
+    public List<DrawAnnouncement> findAll() {
+        return null;
+    }
+
+    @Override
+    public Iterable<DrawAnnouncement> findAllById(Iterable<Integer> drawIds) {
+        List<DrawAnnouncement> found = new ArrayList<>();
+        drawIds.forEach(drawId -> findById(drawId).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return 0;
+    }
+
+    @Override
+    public void deleteById(Integer drawId) {
+
+    }
+
+    @Override
+    public void delete(DrawAnnouncement entity) {
+
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Integer> strings) {
+
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends DrawAnnouncement> entities) {
+
+    }
+
+    @Override
+    public void deleteAll() {
+
+    }
+
+    @Override
+    public List<DrawAnnouncement> findAll(Sort sort) {
+        return null;
+    }
+
+    @Override
+    public Page<DrawAnnouncement> findAll(Pageable pageable) {
+        return null;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> S insert(S entity) {
+        return null;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> List<S> insert(Iterable<S> entities) {
+        return null;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> Optional<S> findOne(Example<S> example) {
+        return Optional.empty();
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> List<S> findAll(Example<S> example) {
+        return null;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> List<S> findAll(Example<S> example, Sort sort) {
+        return null;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return null;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> long count(Example<S> example) {
+        return 0;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement> boolean exists(Example<S> example) {
+        return false;
+    }
+
+    @Override
+    public <S extends DrawAnnouncement, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return null;
+    }
+}
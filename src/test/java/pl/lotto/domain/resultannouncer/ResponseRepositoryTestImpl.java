@@ -5,7 +5,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
+import pl.lotto.domain.common.BulkWriteBatchReport;
+import pl.lotto.domain.common.BulkWriteReport;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +37,16 @@ public class ResponseRepositoryTestImpl implements ResponseRepository {
     }
 
 
+    @Override
+    public BulkWriteReport saveAllUnordered(Collection<ResultResponse> responses) {
+        responses.forEach(response -> responseList.put(response.hash(), response));
+        return new BulkWriteReport(List.of(BulkWriteBatchReport.builder()
+                .size(responses.size())
+                .inserted(responses.size())
+                .latency(Duration.ZERO)
+                .build()));
+    }
+
     @Override
     public <S extends ResultResponse> List<S> saveAll(Iterable<S> entities) {
         return null;
@@ -43,8 +58,10 @@ public class ResponseRepositoryTestImpl implements ResponseRepository {
     }
 
     @Override
-    public Iterable<ResultResponse> findAllById(Iterable<String> strings) {
-        return null;
+    public Iterable<ResultResponse> findAllById(Iterable<String> hashes) {
+        List<ResultResponse> found = new ArrayList<>();
+        hashes.forEach(hash -> findById(hash).ifPresent(found::add));
+        return found;
     }
 
     @Override
@@ -0,0 +1,90 @@
+package pl.lotto.domain.resultannouncer;
+
+import org.junit.jupiter.api.Test;
+import pl.lotto.domain.resultannouncer.dto.ResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static pl.lotto.domain.resultannouncer.MessageResponse.HASH_DOES_NOT_EXIST_MESSAGE;
+import static pl.lotto.domain.resultannouncer.MessageResponse.WIN_MESSAGE;
+
+class ResultAnnouncementCodecTest {
+
+    @Test
+    public void it_should_decode_encoded_announcement_to_equal_one() {
+        //given
+        ResponseDto responseDto = ResponseDto.builder()
+                .hash("01HF3Z8Q9V7N2K4M6P8R0T2W4Y")
+                .numbers(Set.of(1, 2, 3, 4, 5, 99))
+                .hitNumbers(Set.of(1, 2, 3, 4, 9, 0))
+                .wonNumbers(Set.of())
+                .drawDate(LocalDateTime.of(2026, 2, 7, 12, 0))
+                .isWinner(true)
+                .build();
+        ResultAnnouncerResponseDto announcement = new ResultAnnouncerResponseDto(responseDto, WIN_MESSAGE.info);
+        ResultAnnouncerResponseDto notFound = new ResultAnnouncerResponseDto(null, HASH_DOES_NOT_EXIST_MESSAGE.info);
+        //when
+        byte[] encoded = ResultAnnouncementCodec.encode(announcement);
+        //then
+        assertThat(ResultAnnouncementCodec.decode(encoded)).isEqualTo(announcement);
+        assertThat(ResultAnnouncementCodec.decode(ResultAnnouncementCodec.encode(notFound))).isEqualTo(notFound);
+        assertThat(encoded.length).isLessThan(64);
+    }
+
+    @Test
+    public void it_should_not_encode_announcement_it_could_not_restore_exactly() {
+        //given
+        ResponseDto withSeconds = ResponseDto.builder()
+                .hash("123")
+                .drawDate(LocalDateTime.of(2026, 2, 7, 12, 0, 30))
+                .build();
+        //when
+        //then
+        assertThat(ResultAnnouncementCodec.canEncode(new ResultAnnouncerResponseDto(withSeconds, WIN_MESSAGE.info))).isFalse();
+        assertThat(ResultAnnouncementCodec.canEncode(new ResultAnnouncerResponseDto(null, "unknown message"))).isFalse();
+    }
+
+    @Test
+    public void it_should_reject_unsupported_encoding_version() {
+        //given
+        byte[] encoded = ResultAnnouncementCodec.encode(new ResultAnnouncerResponseDto(null, WIN_MESSAGE.info));
+        encoded[1] = 99;
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> ResultAnnouncementCodec.decode(encoded));
+    }
+
+    @Test
+    public void it_should_reject_message_ordinal_appended_by_newer_version() {
+        //given
+        byte[] encoded = ResultAnnouncementCodec.encode(new ResultAnnouncerResponseDto(null, WIN_MESSAGE.info));
+        encoded[3] = (byte) MessageResponse.values().length;
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> ResultAnnouncementCodec.decode(encoded));
+    }
+
+    @Test
+    public void it_should_reject_announcement_truncated_inside_varint_or_hash() {
+        //given
+        ResponseDto responseDto = ResponseDto.builder()
+                .hash("01HF3Z8Q9V7N2K4M6P8R0T2W4Y")
+                .numbers(Set.of(1, 2, 3, 4, 5, 99))
+                .drawDate(LocalDateTime.of(2026, 2, 7, 12, 0))
+                .build();
+        byte[] encoded = ResultAnnouncementCodec.encode(new ResultAnnouncerResponseDto(responseDto, WIN_MESSAGE.info));
+        byte[] truncatedInDrawId = Arrays.copyOf(encoded, 5);
+        byte[] truncatedInHash = Arrays.copyOf(encoded, 12);
+        byte[] truncatedInNumbers = Arrays.copyOf(encoded, encoded.length - 1);
+        //when
+        //then
+        assertThrows(IllegalArgumentException.class, () -> ResultAnnouncementCodec.decode(truncatedInDrawId));
+        assertThrows(IllegalArgumentException.class, () -> ResultAnnouncementCodec.decode(truncatedInHash));
+        assertThrows(IllegalArgumentException.class, () -> ResultAnnouncementCodec.decode(truncatedInNumbers));
+    }
+}
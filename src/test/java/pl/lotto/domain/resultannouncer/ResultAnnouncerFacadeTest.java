@@ -1,8 +1,11 @@
 package pl.lotto.domain.resultannouncer;
 
 import org.junit.jupiter.api.Test;
+import pl.lotto.domain.common.DrawId;
 import pl.lotto.domain.resultannouncer.dto.ResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerBatchResponseDto;
 import pl.lotto.domain.resultannouncer.dto.ResultAnnouncerResponseDto;
+import pl.lotto.domain.resultannouncer.dto.ResultCacheExpiryDto;
 import pl.lotto.domain.resultchecker.ResultCheckerFacade;
 import pl.lotto.domain.resultchecker.dto.ResultDto;
 
@@ -10,15 +13,20 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static pl.lotto.domain.resultannouncer.MessageResponse.*;
 
 class ResultAnnouncerFacadeTest {
     ResponseRepository responseRepository = new ResponseRepositoryTestImpl();
+    DrawAnnouncementRepository drawAnnouncementRepository = new DrawAnnouncementRepositoryTestImpl();
     ResultCheckerFacade resultCheckerFacade = mock(ResultCheckerFacade.class);
 
     @Test
@@ -27,7 +35,7 @@ class ResultAnnouncerFacadeTest {
         LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
         String hash = "123";
         ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
-                .resultAnnouncerFacade(resultCheckerFacade, responseRepository, Clock.systemUTC());
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, Clock.systemUTC());
         ResultDto resultDto = ResultDto.builder()
                 .hash("123")
                 .numbers(Set.of(1, 2, 3, 4, 5, 6))
@@ -57,7 +65,7 @@ class ResultAnnouncerFacadeTest {
         LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
         String hash = "123";
         ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
-                .resultAnnouncerFacade(resultCheckerFacade, responseRepository, Clock.systemUTC());
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, Clock.systemUTC());
         ResultDto resultDto = ResultDto.builder()
                 .hash("123")
                 .numbers(Set.of(1, 2, 3, 4, 5, 6))
@@ -88,7 +96,7 @@ class ResultAnnouncerFacadeTest {
         String hash = "123";
         Clock clock = Clock.fixed(LocalDateTime.of(2026, 2, 7, 12, 0, 0).toInstant(ZoneOffset.UTC), ZoneId.systemDefault());
         ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
-                .resultAnnouncerFacade(resultCheckerFacade, responseRepository, clock);
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, clock);
         ResultDto resultDto = ResultDto.builder()
                 .hash("123")
                 .numbers(Set.of(1, 2, 3, 4, 5, 6))
@@ -117,7 +125,7 @@ class ResultAnnouncerFacadeTest {
         //given
         String hash = "123";
         ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
-                .resultAnnouncerFacade(resultCheckerFacade, responseRepository, Clock.systemUTC());
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, Clock.systemUTC());
 
         when(resultCheckerFacade.findByTicketId(hash)).thenReturn(null);
         //when
@@ -142,7 +150,7 @@ class ResultAnnouncerFacadeTest {
         when(resultCheckerFacade.findByTicketId(hash)).thenReturn(resultDto);
 
         ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
-                .resultAnnouncerFacade(resultCheckerFacade, responseRepository, Clock.systemUTC());
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, Clock.systemUTC());
         ResultAnnouncerResponseDto resultAnnouncerResponseDto1 = resultAnnouncerFacade.checkResult(hash);
         String underTest = resultAnnouncerResponseDto1.responseDto().hash();
         //when
@@ -154,4 +162,172 @@ class ResultAnnouncerFacadeTest {
         assertThat(resultAnnouncerResponseDto).isEqualTo(expectedResult);
     }
 
+    @Test
+    public void it_should_cache_wait_message_only_until_announcement_and_tag_it_with_draw() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        Clock clock = Clock.fixed(LocalDateTime.of(2026, 2, 7, 11, 0, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, clock);
+        ResponseDto responseDto = ResponseDto.builder()
+                .hash("123")
+                .drawDate(drawDate)
+                .build();
+        //when
+        ResultCacheExpiryDto expiry = resultAnnouncerFacade.cacheExpiryOf(new ResultAnnouncerResponseDto(responseDto, WAIT_MESSAGE.info));
+        //then
+        assertThat(expiry.expiresAt()).isEqualTo(drawDate.plusMinutes(10).toInstant(ZoneOffset.UTC));
+        assertThat(expiry.preDrawId()).isEqualTo(DrawId.of(drawDate));
+    }
+
+    @Test
+    public void it_should_not_cache_wait_message_once_draw_is_announced() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        Clock clock = Clock.fixed(drawDate.plusMinutes(1).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, responseRepository, new DrawAnnouncementRepositoryTestImpl(), clock);
+        ResponseDto responseDto = ResponseDto.builder()
+                .hash("123")
+                .drawDate(drawDate)
+                .build();
+        ResultAnnouncerResponseDto waitResponse = new ResultAnnouncerResponseDto(responseDto, WAIT_MESSAGE.info);
+        ResultCacheExpiryDto beforeAnnouncement = resultAnnouncerFacade.cacheExpiryOf(waitResponse);
+        //when
+        resultAnnouncerFacade.announceDraw(drawDate);
+        ResultCacheExpiryDto afterAnnouncement = resultAnnouncerFacade.cacheExpiryOf(waitResponse);
+        //then
+        assertThat(beforeAnnouncement.expiresAt()).isEqualTo(drawDate.plusMinutes(10).toInstant(ZoneOffset.UTC));
+        assertThat(afterAnnouncement.expiresAt()).isEqualTo(clock.instant());
+        assertThat(afterAnnouncement.preDrawId()).isEqualTo(DrawId.of(drawDate));
+    }
+
+    @Test
+    public void it_should_cache_final_result_until_draw_leaves_retention() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        Clock clock = Clock.fixed(LocalDateTime.of(2026, 2, 7, 13, 0, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, clock);
+        ResponseDto responseDto = ResponseDto.builder()
+                .hash("123")
+                .drawDate(drawDate)
+                .isWinner(true)
+                .build();
+        //when
+        ResultCacheExpiryDto expiry = resultAnnouncerFacade.cacheExpiryOf(new ResultAnnouncerResponseDto(responseDto, WIN_MESSAGE.info));
+        //then
+        assertThat(expiry.expiresAt()).isEqualTo(drawDate.plusWeeks(8).toInstant(ZoneOffset.UTC));
+        assertThat(expiry.preDrawId()).isNull();
+    }
+
+    @Test
+    public void it_should_answer_batch_in_request_order_reusing_known_answers() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        Clock clock = Clock.fixed(LocalDateTime.of(2026, 2, 7, 13, 0, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, clock);
+        ResultDto winning = ResultDto.builder()
+                .hash("001")
+                .numbers(Set.of(1, 2, 3, 4, 5, 6))
+                .hitNumbers(Set.of(1, 2, 3, 4))
+                .drawDate(drawDate)
+                .isWinner(true)
+                .build();
+        ResultDto losing = ResultDto.builder()
+                .hash("002")
+                .numbers(Set.of(10, 11, 12, 13, 14, 15))
+                .hitNumbers(Set.of())
+                .drawDate(drawDate)
+                .isWinner(false)
+                .build();
+        when(resultCheckerFacade.findByTicketIds(List.of("002", "001", "404")))
+                .thenReturn(Map.of("001", winning, "002", losing));
+        ResultAnnouncerResponseDto known = new ResultAnnouncerResponseDto(null, WAIT_MESSAGE.info);
+        //when
+        ResultAnnouncerBatchResponseDto batchResponse = resultAnnouncerFacade.checkResults(
+                List.of("002", "cached", "001", "404"), Map.of("cached", known));
+        //then
+        assertThat(batchResponse.results())
+                .extracting(ResultAnnouncerResponseDto::message)
+                .containsExactly(LOSE_MESSAGE.info, WAIT_MESSAGE.info, WIN_MESSAGE.info, HASH_DOES_NOT_EXIST_MESSAGE.info);
+        assertThat(resultAnnouncerFacade.checkResults(List.of("001")).results())
+                .extracting(ResultAnnouncerResponseDto::message)
+                .containsExactly(ALREADY_CHECKED.info);
+    }
+
+    @Test
+    public void it_should_reject_batch_larger_than_limit() {
+        //given
+        ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, Clock.systemUTC());
+        List<String> hashes = IntStream.rangeClosed(1, 101)
+                .mapToObj(String::valueOf)
+                .toList();
+        //when
+        //then
+        assertThrows(ResultBatchTooLargeException.class, () -> resultAnnouncerFacade.checkResults(hashes));
+    }
+
+    @Test
+    public void it_should_announce_results_only_once_draw_is_published_or_publication_timed_out() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        Clock duringPublication = Clock.fixed(drawDate.plusMinutes(1).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        Clock afterTimeout = Clock.fixed(drawDate.plusMinutes(11).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ResultDto resultDto = ResultDto.builder()
+                .hash("001")
+                .numbers(Set.of(1, 2, 3, 4, 5, 6))
+                .hitNumbers(Set.of(1, 2, 3, 4))
+                .drawDate(drawDate)
+                .isWinner(true)
+                .build();
+        when(resultCheckerFacade.findByTicketIds(List.of("001"))).thenReturn(Map.of("001", resultDto));
+        ResultAnnouncerFacade publishingFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, new ResponseRepositoryTestImpl(), drawAnnouncementRepository, duringPublication);
+        ResultAnnouncerFacade otherNodeFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, new ResponseRepositoryTestImpl(), drawAnnouncementRepository, duringPublication);
+        ResultAnnouncerFacade afterTimeoutFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, new ResponseRepositoryTestImpl(), new DrawAnnouncementRepositoryTestImpl(), afterTimeout);
+        //when
+        String beforeAnnouncement = publishingFacade.checkResults(List.of("001")).results().get(0).message();
+        publishingFacade.announceDraw(drawDate);
+        String afterAnnouncement = otherNodeFacade.checkResults(List.of("001")).results().get(0).message();
+        String withoutAnnouncement = afterTimeoutFacade.checkResults(List.of("001")).results().get(0).message();
+        //then
+        assertThat(beforeAnnouncement).isEqualTo(WAIT_MESSAGE.info);
+        assertThat(afterAnnouncement).isEqualTo(WIN_MESSAGE.info);
+        assertThat(withoutAnnouncement).isEqualTo(WIN_MESSAGE.info);
+        assertThat(publishingFacade.finalAnnouncementsOf(List.of(resultDto)))
+                .extracting(ResultAnnouncerResponseDto::message)
+                .containsExactly(WIN_MESSAGE.info);
+    }
+
+    @Test
+    public void it_should_not_record_announcement_of_draw_published_ahead_of_its_time() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 14, 12, 0, 0);
+        Clock weekBeforeDraw = Clock.fixed(drawDate.minusWeeks(1).plusSeconds(30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        Clock withinPublicationTimeout = Clock.fixed(drawDate.plusMinutes(1).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ResultDto resultDto = ResultDto.builder()
+                .hash("001")
+                .numbers(Set.of(1, 2, 3, 4, 5, 6))
+                .hitNumbers(Set.of(1, 2, 3, 4))
+                .drawDate(drawDate)
+                .isWinner(true)
+                .build();
+        when(resultCheckerFacade.findByTicketIds(List.of("001"))).thenReturn(Map.of("001", resultDto));
+        ResultAnnouncerFacade publishingFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, responseRepository, drawAnnouncementRepository, weekBeforeDraw);
+        ResultAnnouncerFacade afterDrawFacade = new ResultAnnouncerConfiguration()
+                .createForTest(resultCheckerFacade, new ResponseRepositoryTestImpl(), drawAnnouncementRepository, withinPublicationTimeout);
+        //when
+        boolean announced = publishingFacade.announceDraw(drawDate);
+        String afterDraw = afterDrawFacade.checkResults(List.of("001")).results().get(0).message();
+        //then
+        assertThat(announced).isFalse();
+        assertThat(drawAnnouncementRepository.existsById(DrawId.of(drawDate))).isFalse();
+        assertThat(afterDraw).isEqualTo(WAIT_MESSAGE.info);
+    }
 }
@@ -6,8 +6,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery;
+import pl.lotto.domain.common.BulkWriteBatchReport;
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.time.Duration;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +39,16 @@ public class PlayerRepositoryTestImpl implements PlayerRepository {
     }
 
 
+    @Override
+    public BulkWriteReport saveAllUnordered(Collection<Player> players) {
+        players.forEach(player -> playersList.put(player.hash(), player));
+        return new BulkWriteReport(List.of(BulkWriteBatchReport.builder()
+                .size(players.size())
+                .inserted(players.size())
+                .latency(Duration.ZERO)
+                .build()));
+    }
+
     @Override
     public List<Player> findAll() {
         return new ArrayList<>(playersList.values());
@@ -133,6 +149,18 @@ public class PlayerRepositoryTestImpl implements PlayerRepository {
         return Optional.ofNullable(playersList.get(hash));
     }
 
+    @Override
+    public Map<String, Player> findAllByHashes(Collection<String> hashes) {
+        Map<String, Player> found = new HashMap<>();
+        hashes.forEach(hash -> {
+            Player player = playersList.get(hash);
+            if (player != null) {
+                found.put(hash, player);
+            }
+        });
+        return found;
+    }
+
     @Override
     public boolean existsById(String s) {
         return false;
@@ -1,18 +1,33 @@
 package pl.lotto.domain.resultchecker;
 
 import org.junit.jupiter.api.Test;
+import pl.lotto.domain.common.BulkWriteBatchReport;
+import pl.lotto.domain.common.BulkWriteReport;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.DrawTicketId;
 import pl.lotto.domain.numbergenerator.WinningNumbersGeneratorFacade;
 import pl.lotto.domain.numbergenerator.dto.WinningNumbersDto;
 import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
 import pl.lotto.domain.numberreceiver.dto.TicketDto;
+import pl.lotto.domain.resultchecker.dto.DrawResultsSummaryDto;
 import pl.lotto.domain.resultchecker.dto.PlayersDto;
 import pl.lotto.domain.resultchecker.dto.ResultDto;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -47,7 +62,7 @@ class ResultCheckerFacadeTest {
                                 .build())
         );
         ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
-                .resultCheckerFacade(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
         //when
         PlayersDto playersDto = resultCheckerFacade.generateResults();
         //then
@@ -82,6 +97,34 @@ class ResultCheckerFacadeTest {
 
     }
 
+    @Test
+    public void it_should_not_report_success_when_saving_evaluated_players_fails() {
+        //given
+        PlayerRepository failingRepository = new PlayerRepositoryTestImpl() {
+            @Override
+            public BulkWriteReport saveAllUnordered(Collection<Player> players) {
+                return new BulkWriteReport(List.of(BulkWriteBatchReport.builder()
+                        .size(players.size())
+                        .failed(players.size())
+                        .latency(Duration.ZERO)
+                        .build()));
+            }
+        };
+        when(winningNumbersGeneratorFacade.generateWinningNumbers()).thenReturn(WinningNumbersDto.builder()
+                .winningNumbers(Set.of(1, 2, 3, 4, 5, 6))
+                .build());
+        when(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).thenReturn(List.of(TicketDto.builder()
+                .hash("001")
+                .numbers(Set.of(1, 2, 3, 4, 5, 6))
+                .drawDate(LocalDateTime.of(2026, 2, 7, 12, 0, 0))
+                .build()));
+        ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, failingRepository);
+        //when
+        //then
+        assertThrows(IllegalStateException.class, resultCheckerFacade::generateResults);
+    }
+
     @Test
     public void it_should_generate_fail_message_when_winningNumbers_equal_null() {
         //given
@@ -89,7 +132,7 @@ class ResultCheckerFacadeTest {
                 .winningNumbers(null)
                 .build());
         ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
-                .resultCheckerFacade(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
         //when
         PlayersDto playersDto = resultCheckerFacade.generateResults();
         //then
@@ -105,7 +148,7 @@ class ResultCheckerFacadeTest {
                 .winningNumbers(Set.of())
                 .build());
         ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
-                .resultCheckerFacade(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
         //when
         PlayersDto playersDto = resultCheckerFacade.generateResults();
         //then
@@ -141,7 +184,7 @@ class ResultCheckerFacadeTest {
                                 .build())
         );
         ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
-                .resultCheckerFacade(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
         resultCheckerFacade.generateResults();
         //when
 
@@ -157,4 +200,183 @@ class ResultCheckerFacadeTest {
                 .build();
         assertThat(resultDto).isEqualTo(expectedResult);
     }
+
+    @Test
+    public void it_should_calculate_hit_numbers_and_winner_flag_for_partial_matches() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        Set<Integer> winningNumbers = Set.of(1, 33, 64, 65, 98, 99);
+        when(winningNumbersGeneratorFacade.generateWinningNumbers()).thenReturn(WinningNumbersDto.builder()
+                .winningNumbers(winningNumbers)
+                .build());
+        when(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).thenReturn(
+                List.of(TicketDto.builder()
+                                .hash("001")
+                                .numbers(Set.of(1, 33, 64, 10, 11, 12))
+                                .drawDate(drawDate)
+                                .build(),
+                        TicketDto.builder()
+                                .hash("002")
+                                .numbers(Set.of(65, 99, 7, 8, 9, 10))
+                                .drawDate(drawDate)
+                                .build())
+        );
+        ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+        resultCheckerFacade.generateResults();
+        //when
+        ResultDto winner = resultCheckerFacade.findByTicketId("001");
+        ResultDto loser = resultCheckerFacade.findByTicketId("002");
+        //then
+        assertThat(winner.hitNumbers()).containsExactlyInAnyOrder(1, 33, 64);
+        assertThat(winner.isWinner()).isTrue();
+        assertThat(loser.hitNumbers()).containsExactlyInAnyOrder(65, 99);
+        assertThat(loser.isWinner()).isFalse();
+    }
+
+    @Test
+    public void it_should_evaluate_and_save_all_tickets_when_parallel_mode_is_enabled() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        when(winningNumbersGeneratorFacade.generateWinningNumbers()).thenReturn(WinningNumbersDto.builder()
+                .winningNumbers(Set.of(1, 2, 3, 4, 5, 6))
+                .build());
+        List<TicketDto> tickets = IntStream.range(0, 100)
+                .mapToObj(i -> TicketDto.builder()
+                        .hash(String.valueOf(i))
+                        .numbers(Set.of(1, 2, 3, 10 + i % 80, 91 + i % 3, 95 + i % 3))
+                        .drawDate(drawDate)
+                        .build())
+                .toList();
+        when(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).thenReturn(tickets);
+        ResultCheckerFacadeConfigurationProperties properties = ResultCheckerFacadeConfigurationProperties.builder()
+                .parallelism(4)
+                .chunkSize(7)
+                .build();
+        ResultCheckerConfiguration configuration = new ResultCheckerConfiguration();
+        DrawEvaluator drawEvaluator = configuration.drawEvaluator(playerRepository, properties);
+        ResultCheckerFacade resultCheckerFacade = configuration
+                .resultCheckerFacade(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository, drawEvaluator, properties);
+        //when
+        PlayersDto playersDto = resultCheckerFacade.generateResults();
+        drawEvaluator.close();
+        //then
+        assertThat(playersDto.results()).extracting(ResultDto::hash)
+                .containsExactlyElementsOf(tickets.stream().map(TicketDto::hash).toList());
+        assertThat(playersDto.results()).allMatch(ResultDto::isWinner);
+        assertThat(playerRepository.findAll()).hasSize(100);
+    }
+
+    @Test
+    public void it_should_stop_parallel_evaluation_pool_when_evaluator_is_closed() {
+        //given
+        ResultCheckerFacadeConfigurationProperties properties = ResultCheckerFacadeConfigurationProperties.builder()
+                .parallelism(2)
+                .chunkSize(1)
+                .build();
+        DrawEvaluator drawEvaluator = new ResultCheckerConfiguration().drawEvaluator(playerRepository, properties);
+        List<Ticket> tickets = List.of(
+                new Ticket("001", Set.of(1, 2, 3, 4, 5, 6), LocalDateTime.of(2026, 2, 7, 12, 0, 0)),
+                new Ticket("002", Set.of(7, 8, 9, 10, 11, 12), LocalDateTime.of(2026, 2, 7, 12, 0, 0)));
+        drawEvaluator.evaluate(tickets, Set.of(1, 2, 3, 4, 5, 6));
+        //when
+        drawEvaluator.close();
+        //then
+        assertThrows(RejectedExecutionException.class, () -> drawEvaluator.evaluate(tickets, Set.of(1, 2, 3, 4, 5, 6)));
+    }
+
+    @Test
+    public void it_should_evaluate_tickets_batch_by_batch_and_return_summary_with_counts() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        when(numberReceiverFacade.retrieveNextDrawDate()).thenReturn(drawDate);
+        when(winningNumbersGeneratorFacade.generateWinningNumbers()).thenReturn(WinningNumbersDto.builder()
+                .winningNumbers(Set.of(1, 2, 3, 4, 5, 6))
+                .build());
+        List<TicketDto> firstBatch = List.of(
+                TicketDto.builder().hash("001").numbers(Set.of(1, 2, 3, 7, 8, 9)).drawDate(drawDate).build(),
+                TicketDto.builder().hash("002").numbers(Set.of(1, 7, 8, 9, 10, 11)).drawDate(drawDate).build());
+        List<TicketDto> secondBatch = List.of(
+                TicketDto.builder().hash("003").numbers(Set.of(1, 2, 3, 4, 5, 6)).drawDate(drawDate).build());
+        when(numberReceiverFacade.forEachTicketBatchByDrawDate(eq(drawDate), anyInt(), any())).thenAnswer(invocation -> {
+            Consumer<List<TicketDto>> consumer = invocation.getArgument(2);
+            consumer.accept(firstBatch);
+            consumer.accept(secondBatch);
+            return 3L;
+        });
+        ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+        //when
+        DrawResultsSummaryDto summary = resultCheckerFacade.generateResultsSummary();
+        //then
+        assertThat(summary.drawDate()).isEqualTo(drawDate);
+        assertThat(summary.evaluatedTickets()).isEqualTo(3);
+        assertThat(summary.winners()).isEqualTo(2);
+        assertThat(summary.message()).isEqualTo("Winners succeeded to retrieve");
+        assertThat(resultCheckerFacade.findByTicketId("002").isWinner()).isFalse();
+        assertThat(resultCheckerFacade.findByTicketId("003").hitNumbers()).hasSize(6);
+    }
+
+    @Test
+    public void it_should_find_result_of_single_draw_ticket_when_ticket_id_carries_its_draw() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        when(winningNumbersGeneratorFacade.generateWinningNumbers()).thenReturn(WinningNumbersDto.builder()
+                .winningNumbers(Set.of(1, 2, 3, 4, 5, 6))
+                .build());
+        String subscriptionTicketId = DrawTicketId.of("002", DrawId.of(drawDate));
+        when(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).thenReturn(
+                List.of(TicketDto.builder()
+                                .hash("001")
+                                .numbers(Set.of(1, 2, 3, 10, 11, 12))
+                                .drawDate(drawDate)
+                                .build(),
+                        TicketDto.builder()
+                                .hash(subscriptionTicketId)
+                                .numbers(Set.of(1, 2, 7, 8, 9, 10))
+                                .drawDate(drawDate)
+                                .build()));
+        ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+        resultCheckerFacade.generateResults();
+        //when
+        ResultDto singleDrawResult = resultCheckerFacade.findByTicketId(DrawTicketId.of("001", DrawId.of(drawDate)));
+        ResultDto subscriptionResult = resultCheckerFacade.findByTicketId(subscriptionTicketId);
+        //then
+        assertThat(singleDrawResult.isWinner()).isTrue();
+        assertThat(subscriptionResult.hitNumbers()).containsExactlyInAnyOrder(1, 2);
+        assertThrows(PlayerResultNotFoundException.class,
+                () -> resultCheckerFacade.findByTicketId(DrawTicketId.of("001", DrawId.of(drawDate.plusWeeks(1)))));
+    }
+
+    @Test
+    public void it_should_find_results_of_many_ticket_ids_at_once_and_skip_unknown_ones() {
+        //given
+        LocalDateTime drawDate = LocalDateTime.of(2026, 2, 7, 12, 0, 0);
+        when(winningNumbersGeneratorFacade.generateWinningNumbers()).thenReturn(WinningNumbersDto.builder()
+                .winningNumbers(Set.of(1, 2, 3, 4, 5, 6))
+                .build());
+        when(numberReceiverFacade.retrieveAllTicketsByNextDrawDate()).thenReturn(
+                List.of(TicketDto.builder()
+                                .hash("001")
+                                .numbers(Set.of(1, 2, 3, 10, 11, 12))
+                                .drawDate(drawDate)
+                                .build(),
+                        TicketDto.builder()
+                                .hash("002")
+                                .numbers(Set.of(1, 7, 8, 9, 10, 11))
+                                .drawDate(drawDate)
+                                .build()));
+        ResultCheckerFacade resultCheckerFacade = new ResultCheckerConfiguration()
+                .createForTest(winningNumbersGeneratorFacade, numberReceiverFacade, playerRepository);
+        resultCheckerFacade.generateResults();
+        String singleDrawTicketId = DrawTicketId.of("002", DrawId.of(drawDate));
+        String otherDrawTicketId = DrawTicketId.of("002", DrawId.of(drawDate.plusWeeks(1)));
+        //when
+        Map<String, ResultDto> results = resultCheckerFacade.findByTicketIds(List.of("001", singleDrawTicketId, otherDrawTicketId, "003"));
+        //then
+        assertThat(results).containsOnlyKeys("001", singleDrawTicketId);
+        assertThat(results.get("001").isWinner()).isTrue();
+        assertThat(results.get(singleDrawTicketId).isWinner()).isFalse();
+    }
 }
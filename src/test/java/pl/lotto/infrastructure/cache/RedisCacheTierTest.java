@@ -0,0 +1,89 @@
+package pl.lotto.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisCacheTierTest {
+
+    @SuppressWarnings("unchecked")
+    RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    SetOperations<String, Object> setOperations = mock(SetOperations.class);
+    @SuppressWarnings("unchecked")
+    RedisOperations<String, Object> pipelineOperations = mock(RedisOperations.class);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RedisCacheTier redisCacheTier = new RedisCacheTier("results", redisTemplate, meterRegistry);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void it_should_write_entries_with_one_pipelined_round_trip_per_thousand_entries() {
+        // given
+        List<RedisCacheTier.Entry> entries = IntStream.range(0, 2500)
+                .mapToObj(i -> new RedisCacheTier.Entry("hash-" + i, "WIN", Duration.ofMinutes(10), i % 2 == 0 ? "draw:1" : null))
+                .toList();
+        when(pipelineOperations.opsForValue()).thenReturn(valueOperations);
+        when(pipelineOperations.opsForSet()).thenReturn(setOperations);
+        ArgumentCaptor<SessionCallback<Object>> pipelines = ArgumentCaptor.forClass(SessionCallback.class);
+
+        // when
+        redisCacheTier.putAll(entries);
+
+        // then
+        verify(redisTemplate, times(3)).executePipelined(pipelines.capture());
+        pipelines.getAllValues().forEach(pipeline -> pipeline.execute(pipelineOperations));
+        verify(valueOperations, times(2500)).set(anyString(), eq("WIN"), eq(Duration.ofMinutes(10)));
+        verify(valueOperations).set("results::hash-2499", "WIN", Duration.ofMinutes(10));
+        verify(setOperations, times(1250)).add(eq("results::region::draw:1"), any());
+        assertThat(meterRegistry.get("redis.pipeline.size").tag("cache", "results").summary().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("redis.pipeline.size").tag("cache", "results").summary().max()).isEqualTo(1000);
+    }
+
+    @Test
+    public void it_should_return_multi_get_values_in_key_order() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("results::002", "results::001", "results::003")))
+                .thenReturn(Arrays.asList("LOSE", "WIN", null));
+
+        // when
+        List<Object> values = redisCacheTier.multiGet(List.of("002", "001", "003"));
+
+        // then
+        assertThat(values).containsExactly("LOSE", "WIN", null);
+    }
+
+    @Test
+    public void it_should_pad_multi_get_with_nulls_when_redis_returns_no_values() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(any())).thenReturn(null);
+
+        // when
+        List<Object> values = redisCacheTier.multiGet(List.of("001", "002"));
+
+        // then
+        assertThat(values).hasSize(2).containsOnlyNulls();
+    }
+}
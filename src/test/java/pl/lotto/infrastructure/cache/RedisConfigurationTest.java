@@ -0,0 +1,63 @@
+package pl.lotto.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisConfigurationTest {
+
+    @Test
+    public void it_should_fall_back_to_default_pool_settings_when_none_are_configured() {
+        // given
+        RedisClientConfigurationProperties properties = RedisClientConfigurationProperties.builder().build();
+
+        // when
+        JedisPoolConfig poolConfig = RedisConfiguration.poolConfig(properties);
+
+        // then
+        assertThat(poolConfig.getMaxTotal()).isEqualTo(64);
+        assertThat(poolConfig.getMaxIdle()).isEqualTo(64);
+        assertThat(poolConfig.getMinIdle()).isEqualTo(8);
+        assertThat(poolConfig.getMaxWaitDuration()).isEqualTo(Duration.ofMillis(200));
+        assertThat(poolConfig.getBlockWhenExhausted()).isTrue();
+    }
+
+    @Test
+    public void it_should_keep_idle_connections_within_small_configured_pool() {
+        // given
+        RedisClientConfigurationProperties properties = RedisClientConfigurationProperties.builder()
+                .maxTotal(4)
+                .build();
+
+        // when
+        JedisPoolConfig poolConfig = RedisConfiguration.poolConfig(properties);
+
+        // then
+        assertThat(poolConfig.getMaxTotal()).isEqualTo(4);
+        assertThat(poolConfig.getMaxIdle()).isEqualTo(4);
+        assertThat(poolConfig.getMinIdle()).isEqualTo(4);
+    }
+
+    @Test
+    public void it_should_use_configured_pool_settings() {
+        // given
+        RedisClientConfigurationProperties properties = RedisClientConfigurationProperties.builder()
+                .maxTotal(32)
+                .maxIdle(16)
+                .minIdle(2)
+                .maxWaitMillis(50)
+                .build();
+
+        // when
+        JedisPoolConfig poolConfig = RedisConfiguration.poolConfig(properties);
+
+        // then
+        assertThat(poolConfig.getMaxTotal()).isEqualTo(32);
+        assertThat(poolConfig.getMaxIdle()).isEqualTo(16);
+        assertThat(poolConfig.getMinIdle()).isEqualTo(2);
+        assertThat(poolConfig.getMaxWaitDuration()).isEqualTo(Duration.ofMillis(50));
+    }
+}
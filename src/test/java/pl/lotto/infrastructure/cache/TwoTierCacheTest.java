@@ -0,0 +1,201 @@
+package pl.lotto.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoTierCacheTest {
+
+    /**
+     * Values {@code "<region>:<answer>"} belong to the region before the colon; {@code "uncached"} is not cached in L2.
+     */
+    private static final CacheEntryExpiry EXPIRY = new CacheEntryExpiry() {
+        @Override
+        public String cacheName() {
+            return "answers";
+        }
+
+        @Override
+        public Duration timeToLive(Object key, Object value) {
+            return "uncached".equals(value) ? Duration.ZERO : Duration.ofMinutes(10);
+        }
+
+        @Override
+        public String region(Object key, Object value) {
+            return value instanceof String answer && answer.contains(":") ? answer.substring(0, answer.indexOf(':')) : null;
+        }
+    };
+
+    RedisCacheTier l2 = mock(RedisCacheTier.class);
+
+    @Test
+    public void it_should_fall_through_to_l2_on_l1_miss_and_copy_hit_into_l1() {
+        // given
+        TwoTierCache cache = twoTierCache(l2);
+        when(l2.get("001")).thenReturn("draw-1:WIN");
+
+        // when
+        Object firstRead = cache.get("001").get();
+        Object secondRead = cache.get("001").get();
+
+        // then
+        assertThat(firstRead).isEqualTo("draw-1:WIN");
+        assertThat(secondRead).isEqualTo("draw-1:WIN");
+        assertThat(cache.getNativeCache().getIfPresent("001")).isEqualTo("draw-1:WIN");
+        verify(l2, times(1)).get("001");
+    }
+
+    @Test
+    public void it_should_not_reach_l2_for_l1_hit() {
+        // given
+        TwoTierCache cache = twoTierCache(l2);
+        cache.put("001", "draw-1:WIN");
+
+        // when
+        Object read = cache.get("001").get();
+
+        // then
+        assertThat(read).isEqualTo("draw-1:WIN");
+        verify(l2, never()).get(any());
+    }
+
+    @Test
+    public void it_should_read_l1_misses_of_multi_get_with_one_l2_round_trip_and_copy_hits_into_l1() {
+        // given
+        TwoTierCache cache = twoTierCache(l2);
+        cache.getNativeCache().put("001", "draw-1:WIN");
+        when(l2.multiGet(List.of("002", "003"))).thenReturn(Arrays.asList("draw-1:LOSE", null));
+
+        // when
+        Map<Object, Object> values = cache.getAllPresent(List.of("001", "002", "003", "002"));
+
+        // then
+        assertThat(values).containsExactlyInAnyOrderEntriesOf(Map.of("001", "draw-1:WIN", "002", "draw-1:LOSE"));
+        assertThat(cache.getNativeCache().getIfPresent("002")).isEqualTo("draw-1:LOSE");
+        verify(l2, times(1)).multiGet(any());
+    }
+
+    @Test
+    public void it_should_answer_multi_get_from_l1_alone_without_l2() {
+        // given
+        TwoTierCache cache = twoTierCache(null);
+        cache.put("001", "draw-1:WIN");
+
+        // when
+        Map<Object, Object> values = cache.getAllPresent(List.of("001", "002"));
+
+        // then
+        assertThat(values).containsExactlyEntriesOf(Map.of("001", "draw-1:WIN"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void it_should_write_multi_set_to_l1_and_pipeline_only_cacheable_entries_to_l2() {
+        // given
+        TwoTierCache cache = twoTierCache(l2);
+        ArgumentCaptor<List<RedisCacheTier.Entry>> entries = ArgumentCaptor.forClass(List.class);
+
+        // when
+        int written = cache.putAll(Map.of("001", "draw-1:WIN", "002", "uncached"));
+
+        // then
+        assertThat(written).isEqualTo(1);
+        assertThat(cache.getNativeCache().getAllPresent(List.of("001", "002"))).hasSize(2);
+        verify(l2).putAll(entries.capture());
+        assertThat(entries.getValue()).containsExactly(new RedisCacheTier.Entry("001", "draw-1:WIN", Duration.ofMinutes(10), "draw-1"));
+    }
+
+    @Test
+    public void it_should_write_multi_set_to_l1_alone_without_l2() {
+        // given
+        TwoTierCache cache = twoTierCache(null);
+
+        // when
+        int written = cache.putAll(Map.of("001", "draw-1:WIN", "002", "draw-1:LOSE"));
+
+        // then
+        assertThat(written).isZero();
+        assertThat(cache.getAllPresent(List.of("001", "002"))).hasSize(2);
+    }
+
+    @Test
+    public void it_should_evict_only_entries_of_given_region() {
+        // given
+        TwoTierCache cache = twoTierCache(null);
+        cache.put("001", "draw-1:WIN");
+        cache.put("002", "draw-2:WIN");
+        cache.put("003", "no region");
+
+        // when
+        cache.evictRegion("draw-1");
+
+        // then
+        assertThat(cache.get("001")).isNull();
+        assertThat(cache.get("002").get()).isEqualTo("draw-2:WIN");
+        assertThat(cache.get("003").get()).isEqualTo("no region");
+    }
+
+    @Test
+    public void it_should_track_region_of_entries_copied_from_l2() {
+        // given
+        TwoTierCache cache = twoTierCache(l2);
+        when(l2.get("001")).thenReturn("draw-1:WIN");
+        cache.get("001");
+
+        // when
+        cache.evictRegion("draw-1");
+
+        // then
+        assertThat(cache.getNativeCache().getIfPresent("001")).isNull();
+        verify(l2).evictRegion("draw-1");
+    }
+
+    @Test
+    public void it_should_move_key_to_new_region_when_its_value_is_replaced() {
+        // given
+        TwoTierCache cache = twoTierCache(null);
+        cache.put("001", "draw-1:WAIT");
+        cache.put("001", "draw-2:WIN");
+
+        // when
+        cache.evictRegion("draw-1");
+
+        // then
+        assertThat(cache.get("001").get()).isEqualTo("draw-2:WIN");
+    }
+
+    @Test
+    public void it_should_forget_region_member_once_l1_removes_it() {
+        // given
+        TwoTierCache cache = twoTierCache(null);
+        cache.put("001", "draw-1:WIN");
+        cache.evict("001");
+        cache.getNativeCache().put("001", "draw-1:WIN");
+
+        // when
+        cache.evictRegion("draw-1");
+
+        // then
+        assertThat(cache.getNativeCache().getIfPresent("001")).isEqualTo("draw-1:WIN");
+    }
+
+    private static TwoTierCache twoTierCache(RedisCacheTier l2) {
+        Caffeine<Object, Object> l1 = Caffeine.newBuilder()
+                .executor(Runnable::run);
+        return new TwoTierCache("answers", l1, l2, EXPIRY, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,127 @@
+package pl.lotto.infrastructure.mongo;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import pl.lotto.domain.common.BulkWriteBatchReport;
+import pl.lotto.domain.common.BulkWriteReport;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MongoBulkInserterTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulkOperations = mock(BulkOperations.class);
+
+    @Test
+    public void it_should_insert_documents_in_unordered_batches_of_configured_size() {
+        //given
+        when(mongoTemplate.getCollectionName(String.class)).thenReturn("string");
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, String.class, "string")).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(
+                BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()),
+                BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()),
+                BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+        MongoBulkInserter mongoBulkInserter = new MongoBulkInserter(mongoTemplate, 2);
+        List<String> documents = IntStream.range(0, 5).mapToObj(String::valueOf).toList();
+        //when
+        BulkWriteReport report = mongoBulkInserter.insertUnordered(documents, String.class);
+        //then
+        assertThat(report.batches()).extracting(BulkWriteBatchReport::size).containsExactly(2, 2, 1);
+        assertThat(report.inserted()).isEqualTo(5);
+        assertThat(report.hasFailures()).isFalse();
+        verify(bulkOperations, times(3)).execute();
+    }
+
+    @Test
+    public void it_should_report_failed_documents_and_continue_with_next_batches() {
+        //given
+        when(mongoTemplate.getCollectionName(String.class)).thenReturn("string");
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, String.class, "string")).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        BulkWriteError duplicateKeyError = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0);
+        when(bulkOperations.execute())
+                .thenThrow(new BulkOperationException("duplicate key", new MongoBulkWriteException(
+                        BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+                        List.of(duplicateKeyError), null, new ServerAddress())))
+                .thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()));
+        MongoBulkInserter mongoBulkInserter = new MongoBulkInserter(mongoTemplate, 2);
+        //when
+        BulkWriteReport report = mongoBulkInserter.insertUnordered(List.of("1", "1", "2", "3"), String.class);
+        //then
+        assertThat(report.inserted()).isEqualTo(3);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.batches().get(0).failed()).isEqualTo(1);
+        assertThat(report.hasRetryableFailures()).isFalse();
+        verify(bulkOperations, times(2)).insert(anyList());
+        verify(mongoTemplate, times(2)).bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(String.class), eq("string"));
+    }
+
+    @Test
+    public void it_should_report_documents_failed_for_other_reason_than_duplicate_key_as_retryable() {
+        //given
+        when(mongoTemplate.getCollectionName(String.class)).thenReturn("string");
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, String.class, "string")).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        BulkWriteError duplicateKeyError = new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0);
+        BulkWriteError writeConcernError = new BulkWriteError(91, "shutdown in progress", new BsonDocument(), 2);
+        when(bulkOperations.execute())
+                .thenThrow(new BulkOperationException("bulk write failed", new MongoBulkWriteException(
+                        BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+                        List.of(duplicateKeyError, writeConcernError), null, new ServerAddress())));
+        MongoBulkInserter mongoBulkInserter = new MongoBulkInserter(mongoTemplate, 3);
+        //when
+        BulkWriteReport report = mongoBulkInserter.insertUnordered(List.of("1", "2", "3"), String.class);
+        //then
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.retryable()).containsExactly("3");
+    }
+
+    @Test
+    public void it_should_upsert_documents_by_id_so_writing_them_again_does_not_fail() {
+        //given
+        when(mongoTemplate.getCollectionName(String.class)).thenReturn("string");
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, String.class, "string")).thenReturn(bulkOperations);
+        when(bulkOperations.replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class))).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 0, List.of(), List.of()));
+        MongoBulkInserter mongoBulkInserter = new MongoBulkInserter(mongoTemplate, 2);
+        //when
+        BulkWriteReport report = mongoBulkInserter.upsertUnordered(List.of("1", "2"), String.class, document -> document);
+        //then
+        assertThat(report.inserted()).isEqualTo(2);
+        assertThat(report.hasFailures()).isFalse();
+        verify(bulkOperations, times(2)).replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class));
+        verify(bulkOperations, never()).insert(anyList());
+    }
+
+    @Test
+    public void it_should_not_touch_database_when_there_is_nothing_to_insert() {
+        //given
+        MongoBulkInserter mongoBulkInserter = new MongoBulkInserter(mongoTemplate, 2);
+        //when
+        BulkWriteReport report = mongoBulkInserter.insertUnordered(List.of(), String.class);
+        //then
+        assertThat(report.batches()).isEmpty();
+        verify(mongoTemplate, times(0)).bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(String.class), eq("string"));
+    }
+}
@@ -0,0 +1,115 @@
+package pl.lotto.infrastructure.mongo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.common.TimeOrderedId;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MongoDrawPartitionsTest {
+
+    private static final LocalDateTime FIRST_DRAW = LocalDateTime.of(2023, 11, 4, 12, 0);
+    private static final LocalDateTime SECOND_DRAW = LocalDateTime.of(2023, 11, 11, 12, 0);
+    private static final LocalDateTime THIRD_DRAW = LocalDateTime.of(2023, 11, 18, 12, 0);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoDrawPartitions drawPartitions = new MongoDrawPartitions(
+            mongoTemplate, new MongoMappingContext(), Clock.systemUTC(), true);
+
+    @Test
+    public void it_should_look_up_id_in_partition_of_first_draw_after_id_was_created() {
+        //given
+        givenPartitions(FIRST_DRAW, SECOND_DRAW, THIRD_DRAW);
+        String id = idCreatedAt(LocalDateTime.of(2023, 11, 8, 18, 30));
+        List<String> searchedCollections = new ArrayList<>();
+        //when
+        Optional<String> found = drawPartitions.findByTimeOrderedId(String.class, id, collection -> {
+            searchedCollections.add(collection);
+            return collection;
+        });
+        //then
+        assertThat(found).contains("ticket_" + DrawId.of(SECOND_DRAW));
+        assertThat(searchedCollections).hasSize(1);
+    }
+
+    @Test
+    public void it_should_search_partitions_newest_first_and_then_default_collection_when_id_is_not_time_ordered() {
+        //given
+        givenPartitions(FIRST_DRAW, SECOND_DRAW);
+        List<String> searchedCollections = new ArrayList<>();
+        //when
+        Optional<String> found = drawPartitions.findByTimeOrderedId(String.class, "e58ed763-928c-4155-bee9-fdbaaadc15f3", collection -> {
+            searchedCollections.add(collection);
+            return null;
+        });
+        //then
+        assertThat(found).isEmpty();
+        assertThat(searchedCollections).containsExactly(
+                "ticket_" + DrawId.of(SECOND_DRAW), "ticket_" + DrawId.of(FIRST_DRAW), "ticket");
+    }
+
+    @Test
+    public void it_should_drop_oldest_partitions_and_keep_retained_number_of_draws() {
+        //given
+        givenPartitions(FIRST_DRAW, SECOND_DRAW, THIRD_DRAW);
+        //when
+        List<Integer> dropped = drawPartitions.dropPartitionsExceptNewest("ticket", 2);
+        //then
+        assertThat(dropped).containsExactly(DrawId.of(FIRST_DRAW));
+        verify(mongoTemplate).dropCollection("ticket_" + DrawId.of(FIRST_DRAW));
+    }
+
+    @Test
+    public void it_should_look_up_batch_of_ids_once_per_routed_partition_and_search_remaining_ones_newest_first() {
+        //given
+        givenPartitions(FIRST_DRAW, SECOND_DRAW, THIRD_DRAW);
+        String routedToSecond = idCreatedAt(LocalDateTime.of(2023, 11, 8, 18, 30));
+        String alsoRoutedToSecond = idCreatedAt(LocalDateTime.of(2023, 11, 9, 9, 0));
+        String notTimeOrdered = "e58ed763-928c-4155-bee9-fdbaaadc15f3";
+        String secondPartition = "ticket_" + DrawId.of(SECOND_DRAW);
+        String firstPartition = "ticket_" + DrawId.of(FIRST_DRAW);
+        List<String> searchedCollections = new ArrayList<>();
+        //when
+        Map<String, String> found = drawPartitions.findAllByTimeOrderedIds(String.class,
+                List.of(routedToSecond, alsoRoutedToSecond, notTimeOrdered), (collection, ids) -> {
+                    searchedCollections.add(collection);
+                    if (collection.equals(secondPartition)) {
+                        return ids.stream().filter(id -> !id.equals(notTimeOrdered)).toList();
+                    }
+                    return collection.equals(firstPartition) ? List.copyOf(ids) : List.of();
+                }, Function.identity());
+        //then
+        assertThat(found).containsOnlyKeys(routedToSecond, alsoRoutedToSecond, notTimeOrdered);
+        assertThat(searchedCollections).containsExactly(
+                secondPartition, "ticket_" + DrawId.of(THIRD_DRAW), secondPartition, firstPartition);
+    }
+
+    private void givenPartitions(LocalDateTime... drawDates) {
+        when(mongoTemplate.getCollectionName(String.class)).thenReturn("ticket");
+        Set<String> collections = new HashSet<>(Set.of("ticket", "player"));
+        for (LocalDateTime drawDate : drawDates) {
+            collections.add("ticket_" + DrawId.of(drawDate));
+        }
+        when(mongoTemplate.getCollectionNames()).thenReturn(collections);
+    }
+
+    private static String idCreatedAt(LocalDateTime createdAt) {
+        return TimeOrderedId.encode(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() << 16, 42L);
+    }
+}
@@ -0,0 +1,105 @@
+package pl.lotto.infrastructure.numberreceiver.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverBatchResponseDto;
+import pl.lotto.domain.numberreceiver.dto.NumberReceiverResponseDto;
+import pl.lotto.domain.numberreceiver.dto.TicketDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InputNumbersStreamRestControllerTest {
+
+    private static final LocalDateTime DRAW_DATE = LocalDateTime.of(2026, 3, 14, 12, 0, 0);
+
+    NumberReceiverFacade numberReceiverFacade = mock(NumberReceiverFacade.class);
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    public void it_should_answer_every_line_in_order_and_flush_batches_capped_at_max_batch_size() throws Exception {
+        // given
+        when(numberReceiverFacade.maxBatchSize()).thenReturn(2);
+        when(numberReceiverFacade.inputNumbersBatch(anyList(), eq("player"))).thenAnswer(invocation -> {
+            List<Set<Integer>> batch = invocation.getArgument(0);
+            return NumberReceiverBatchResponseDto.builder()
+                    .results(batch.stream().map(InputNumbersStreamRestControllerTest::resultOf).toList())
+                    .build();
+        });
+        InputNumbersStreamRestController controller = new InputNumbersStreamRestController(numberReceiverFacade, objectMapper,
+                InputNumbersStreamConfigurationProperties.builder().batchSize(1000).build());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        String requestBody = """
+                {"inputNumbers": [1,2,3,4,5,6]}
+                not a ticket
+                {"inputNumbers": [1,2,3]}
+
+                {"inputNumbers": []}
+                {"inputNumbers": [7,8,9,10,11,12]}
+                {"inputNumbers": [13,14,15,16,17,18]}
+                """;
+
+        // when
+        String responseBody = mockMvc.perform(post("/inputNumbers/stream")
+                        .principal(() -> "player")
+                        .contentType("application/x-ndjson")
+                        .accept("application/x-ndjson")
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<TicketReceiptDto> receipts = responseBody.lines()
+                .map(this::readReceipt)
+                .toList();
+        assertThat(receipts).containsExactly(
+                TicketReceiptDto.builder().line(1).hash("hash-1").drawDate(DRAW_DATE).build(),
+                TicketReceiptDto.builder().line(2).error("malformed ticket line").build(),
+                TicketReceiptDto.builder().line(3).error("YOU SHOULD GIVE 6 NUMBERS").build(),
+                TicketReceiptDto.builder().line(5).error("inputNumbers must not be empty").build(),
+                TicketReceiptDto.builder().line(6).hash("hash-7").drawDate(DRAW_DATE).build(),
+                TicketReceiptDto.builder().line(7).hash("hash-13").drawDate(DRAW_DATE).build());
+        verify(numberReceiverFacade).inputNumbersBatch(List.of(Set.of(1, 2, 3, 4, 5, 6)), "player");
+        verify(numberReceiverFacade).inputNumbersBatch(List.of(Set.of(1, 2, 3)), "player");
+        verify(numberReceiverFacade).inputNumbersBatch(List.of(Set.of(7, 8, 9, 10, 11, 12), Set.of(13, 14, 15, 16, 17, 18)), "player");
+        verify(numberReceiverFacade, times(3)).inputNumbersBatch(anyList(), eq("player"));
+    }
+
+    private TicketReceiptDto readReceipt(String line) {
+        try {
+            return objectMapper.readValue(line, TicketReceiptDto.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static NumberReceiverResponseDto resultOf(Set<Integer> numbers) {
+        if (numbers.size() != 6) {
+            return new NumberReceiverResponseDto(null, "YOU SHOULD GIVE 6 NUMBERS");
+        }
+        int lowest = numbers.stream().min(Integer::compare).orElseThrow();
+        TicketDto ticketDto = TicketDto.builder()
+                .hash("hash-" + lowest)
+                .numbers(numbers)
+                .drawDate(DRAW_DATE)
+                .build();
+        return new NumberReceiverResponseDto(ticketDto, "SUCCESS");
+    }
+}
@@ -0,0 +1,45 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import org.junit.jupiter.api.Test;
+import pl.lotto.domain.AdjustableClock;
+import pl.lotto.domain.numberreceiver.NumberReceiverFacade;
+import pl.lotto.domain.resultannouncer.DrawAnnouncementRepositoryTestImpl;
+import pl.lotto.domain.resultannouncer.ResponseRepositoryTestImpl;
+import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultannouncer.ResultBatchTooLargeException;
+import pl.lotto.domain.resultchecker.ResultCheckerFacade;
+import pl.lotto.infrastructure.cache.TwoTierCacheManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ResultsBatchLookupTest {
+
+    ResultCheckerFacade resultCheckerFacade = mock(ResultCheckerFacade.class);
+    TwoTierCacheManager cacheManager = mock(TwoTierCacheManager.class);
+    NumberReceiverFacade numberReceiverFacade = mock(NumberReceiverFacade.class);
+
+    @Test
+    public void it_should_reject_batch_larger_than_limit_before_touching_filter_or_cache() {
+        // given
+        AdjustableClock clock = new AdjustableClock(LocalDateTime.of(2026, 3, 14, 10, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerFacade(resultCheckerFacade, new ResponseRepositoryTestImpl(),
+                new DrawAnnouncementRepositoryTestImpl(), clock, 8, 100, Duration.ofMinutes(10));
+        ResultsBatchLookup resultsBatchLookup = new ResultsBatchLookup(resultAnnouncerFacade, cacheManager, numberReceiverFacade);
+        List<String> hashes = IntStream.rangeClosed(1, 101)
+                .mapToObj(String::valueOf)
+                .toList();
+
+        // when
+        // then
+        assertThrows(ResultBatchTooLargeException.class, () -> resultsBatchLookup.checkResults(hashes));
+        verifyNoInteractions(numberReceiverFacade, cacheManager, resultCheckerFacade);
+    }
+}
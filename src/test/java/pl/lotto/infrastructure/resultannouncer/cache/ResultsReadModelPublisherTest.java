@@ -0,0 +1,95 @@
+package pl.lotto.infrastructure.resultannouncer.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+import pl.lotto.domain.AdjustableClock;
+import pl.lotto.domain.common.DrawId;
+import pl.lotto.domain.numbergenerator.WinningNumbersGeneratorFacade;
+import pl.lotto.domain.resultannouncer.DrawAnnouncementRepository;
+import pl.lotto.domain.resultannouncer.DrawAnnouncementRepositoryTestImpl;
+import pl.lotto.domain.resultannouncer.ResponseRepositoryTestImpl;
+import pl.lotto.domain.resultannouncer.ResultAnnouncerFacade;
+import pl.lotto.domain.resultchecker.ResultCheckerFacade;
+import pl.lotto.domain.resultchecker.dto.DrawResultsSummaryDto;
+import pl.lotto.domain.resultchecker.dto.ResultDto;
+import pl.lotto.infrastructure.cache.TwoTierCacheManager;
+import pl.lotto.infrastructure.resultchecker.scheduler.ResultCheckerScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResultsReadModelPublisherTest {
+
+    ResultCheckerFacade resultCheckerFacade = mock(ResultCheckerFacade.class);
+    WinningNumbersGeneratorFacade winningNumbersGeneratorFacade = mock(WinningNumbersGeneratorFacade.class);
+    DrawAnnouncementRepository drawAnnouncementRepository = new DrawAnnouncementRepositoryTestImpl();
+    TwoTierCacheManager cacheManager = mock(TwoTierCacheManager.class);
+    TaskScheduler taskScheduler = mock(TaskScheduler.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void it_should_announce_and_promote_draw_evaluated_after_rollover_only_once_its_draw_time_has_passed() {
+        // given: the result checker fires at 12:00:30 on Saturday, when the draw date has already rolled over
+        AdjustableClock clock = new AdjustableClock(LocalDateTime.of(2026, 3, 14, 12, 0, 30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        LocalDateTime drawDate = LocalDateTime.of(2026, 3, 21, 12, 0, 0);
+        String drawRegion = ResultsCacheExpiry.drawRegion(DrawId.of(drawDate));
+        ResultAnnouncerFacade resultAnnouncerFacade = new ResultAnnouncerFacade(resultCheckerFacade, new ResponseRepositoryTestImpl(),
+                drawAnnouncementRepository, clock, 8, 100, Duration.ofMinutes(10));
+        ResultsReadModelPublisher publisher = new ResultsReadModelPublisher(resultAnnouncerFacade, cacheManager, clock, taskScheduler,
+                new SimpleMeterRegistry());
+        ResultCheckerScheduler resultCheckerScheduler = new ResultCheckerScheduler(resultCheckerFacade, winningNumbersGeneratorFacade, publisher);
+        ResultDto resultDto = ResultDto.builder()
+                .hash("001")
+                .numbers(Set.of(1, 2, 3, 4, 5, 6))
+                .hitNumbers(Set.of(1, 2, 3, 4, 5, 6))
+                .drawDate(drawDate)
+                .isWinner(true)
+                .build();
+        when(winningNumbersGeneratorFacade.areWinningNumbersGeneratedByDate()).thenReturn(true);
+        when(resultCheckerFacade.generateResultsSummary(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(List.of(resultDto));
+            return DrawResultsSummaryDto.builder()
+                    .drawDate(drawDate)
+                    .evaluatedTickets(1)
+                    .winners(1)
+                    .build();
+        });
+        ArgumentCaptor<Runnable> scheduledAnnouncement = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        resultCheckerScheduler.generateWinners();
+
+        // then
+        verify(cacheManager).putAllShared(eq(ResultsReadModelExpiry.CACHE_NAME), anyMap());
+        verify(taskScheduler).schedule(scheduledAnnouncement.capture(), eq(Instant.parse("2026-03-21T12:00:01Z")));
+        verify(cacheManager, never()).evictRegion(anyString(), anyString());
+        verify(cacheManager, never()).promoteRegion(anyString(), anyString(), anyString());
+        assertThat(drawAnnouncementRepository.existsById(DrawId.of(drawDate))).isFalse();
+
+        // when
+        clock.setClockToLocalDateTime(LocalDateTime.of(2026, 3, 21, 12, 0, 1));
+        scheduledAnnouncement.getValue().run();
+
+        // then
+        assertThat(drawAnnouncementRepository.existsById(DrawId.of(drawDate))).isTrue();
+        verify(cacheManager).evictRegion(ResultsCacheExpiry.CACHE_NAME, drawRegion);
+        verify(cacheManager).promoteRegion(ResultsReadModelExpiry.CACHE_NAME, drawRegion, ResultsCacheExpiry.CACHE_NAME);
+    }
+}